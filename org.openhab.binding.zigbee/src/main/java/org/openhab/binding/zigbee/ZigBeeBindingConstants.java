@@ -36,6 +36,7 @@ public class ZigBeeBindingConstants {
 
     // List of Thing Type UIDs
     public final static ThingTypeUID THING_TYPE_GENERIC_DEVICE = new ThingTypeUID(BINDING_ID, "device");
+    public final static ThingTypeUID THING_TYPE_GROUP = new ThingTypeUID(BINDING_ID, "group");
 
     // List of Channel UIDs
     public static final String CHANNEL_NAME_SWITCH_ONOFF = "switch";
@@ -244,6 +245,18 @@ public class ZigBeeBindingConstants {
     public static final String CHANNEL_LABEL_TUYA_BUTTON = "Button";
     public static final ChannelTypeUID CHANNEL_TUYA_BUTTON = new ChannelTypeUID("zigbee:tuya_button");
 
+    public static final ChannelTypeUID CHANNEL_SCENERECALL = new ChannelTypeUID("zigbee:scenes_recall");
+
+    public static final ChannelTypeUID CHANNEL_SCENESTORE = new ChannelTypeUID("zigbee:scenes_store");
+
+    public static final String CHANNEL_NAME_GROUP_SCENERECALL = "scenerecall";
+    public static final String CHANNEL_LABEL_GROUP_SCENERECALL = "Recall Scene";
+    public static final ChannelTypeUID CHANNEL_GROUP_SCENERECALL = new ChannelTypeUID("zigbee:group_scenerecall");
+
+    public static final String CHANNEL_NAME_GROUP_SCENESTORE = "scenestore";
+    public static final String CHANNEL_LABEL_GROUP_SCENESTORE = "Store Scene";
+    public static final ChannelTypeUID CHANNEL_GROUP_SCENESTORE = new ChannelTypeUID("zigbee:group_scenestore");
+
     public static final String CHANNEL_PROPERTY_ENDPOINT = "zigbee_endpoint";
     public static final String CHANNEL_PROPERTY_PROFILEID = "zigbee_profileid";
     public static final String CHANNEL_PROPERTY_INPUTCLUSTERS = "zigbee_inputclusters";
@@ -295,9 +308,15 @@ public class ZigBeeBindingConstants {
     public static final String CONFIGURATION_POWERMODE = "zigbee_powermode";
     public static final String CONFIGURATION_TXPOWER = "zigbee_txpower";
     public static final String CONFIGURATION_MESHUPDATEPERIOD = "zigbee_meshupdateperiod";
+    public static final String CONFIGURATION_INITIALISECONCURRENCY = "zigbee_initialiseconcurrency";
+    public static final String CONFIGURATION_REPORTINGRECONCILE = "zigbee_reportingreconcile";
+    public static final String CONFIGURATION_VIRTUALTHREADS = "zigbee_virtualthreads";
+    public static final String CONFIGURATION_OPTIMISTICWINDOW = "zigbee_optimisticwindow";
     public static final String CONFIGURATION_GROUPREGISTRATION = "zigbee_groupregistration";
 
     public static final String CONFIGURATION_MACADDRESS = "zigbee_macaddress";
+    public static final String CONFIGURATION_GROUPID = "zigbee_groupid";
+    public static final String CONFIGURATION_GROUPMEMBERS = "zigbee_groupmembers";
     public static final String CONFIGURATION_JOINENABLE = "zigbee_joinenable";
     public static final String CONFIGURATION_LEAVE = "zigbee_leave";
 
@@ -309,6 +328,7 @@ public class ZigBeeBindingConstants {
     public static final String OFFLINE_NO_ADDRESS = "@text/zigbee.status.offline_noaddress";
     public static final String OFFLINE_NODE_NOT_FOUND = "@text/zigbee.status.offline_nodenotfound";
     public static final String OFFLINE_DISCOVERY_INCOMPLETE = "@text/zigbee.status.offline_discoveryincomplete";
+    public static final String OFFLINE_NO_GROUP = "@text/zigbee.status.offline_nogroup";
 
     public static final String FIRMWARE_FAILED = "@text/zigbee.firmware.failed";
     public static final String FIRMWARE_VERSION_HEX_PREFIX = "0x";
@@ -325,6 +345,9 @@ public class ZigBeeBindingConstants {
     public static final Integer FLOWCONTROL_CONFIG_HARDWARE_CTSRTS = Integer.valueOf(1);
     public static final Integer FLOWCONTROL_CONFIG_SOFTWARE_XONXOFF = Integer.valueOf(2);
 
+    // Name of the scheduled thread pool shared by all converters for their timers
+    public static final String TIMER_POOL = "zigbee-timers";
+
     /**
      * Return an ISO 8601 combined date and time string for current date/time
      *
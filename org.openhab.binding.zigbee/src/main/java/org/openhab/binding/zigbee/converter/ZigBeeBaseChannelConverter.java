@@ -14,19 +14,28 @@ package org.openhab.binding.zigbee.converter;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNull;
 import org.openhab.binding.zigbee.ZigBeeBindingConstants;
 import org.openhab.binding.zigbee.handler.ZigBeeCoordinatorHandler;
 import org.openhab.binding.zigbee.handler.ZigBeeThingHandler;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigDescriptionParameter;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.PercentType;
@@ -41,15 +50,24 @@ import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
 import org.openhab.core.types.StateDescription;
+import org.openhab.core.types.UnDefType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeCommand;
 import com.zsmartsystems.zigbee.ZigBeeDeviceType;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.ZigBeeProfileType;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
+import com.zsmartsystems.zigbee.zcl.ZclAttribute;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
+import com.zsmartsystems.zigbee.zcl.ZclStatus;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReadReportingConfigurationCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReadReportingConfigurationResponse;
+import com.zsmartsystems.zigbee.zcl.field.AttributeRecord;
+import com.zsmartsystems.zigbee.zcl.field.AttributeReportingConfigurationRecord;
 
 /**
  * ZigBeeBaseChannelConverter class. Base class for all converters that convert between ZigBee clusters, attributes and
@@ -81,7 +99,8 @@ import com.zsmartsystems.zigbee.zcl.ZclCluster;
  * <li>The thing handler may call {@link #updateConfiguration(Configuration)} with an updated channel configuration from
  * the user. The handler should update the configuration in the device, read back the updated configuration if
  * necessary, and return an updated channel configuration to the thing handler.
- * <li>The thing handler may call {@link #handleCommand(Command)} if there is an incoming command.
+ * <li>The thing handler may call {@link #handleCommandAsync(Command)} if there is an incoming command. By default this
+ * calls {@link #handleCommand(Command)}.
  * <li>The thing handler may call {@link #handleRefresh()} to poll for an update of the channel data.
  * <li>The thing handler will call {@link #disposeConverter()} when the channel is no longer required. The converter
  * must release all resources an unregister any listeners from the ZigBee library.
@@ -104,6 +123,44 @@ public abstract class ZigBeeBaseChannelConverter {
 
     private final static BigDecimal TEMPERATURE_MULTIPLIER = new BigDecimal(100);
 
+    /**
+     * Device configuration record types used to remember the bindings and reporting configured in the device
+     */
+    private final static String DEVICE_CONFIGURATION_BIND = "bind";
+    private final static String DEVICE_CONFIGURATION_REPORTING = "reporting";
+    private final static String DEVICE_CONFIGURATION_CONVERTER = "converter";
+
+    /**
+     * The result returned by {@link #bind(ZclCluster)} and {@link #setReporting(ZclAttribute, int, int, Object)} when
+     * the request is not sent as the device already holds the configuration. This is reported as successful, but can
+     * be distinguished from a response from the device with {@link #isDeviceAlreadyConfigured(CommandResult)}.
+     */
+    private final static CommandResult DEVICE_ALREADY_CONFIGURED = new CommandResult(ZigBeeStatus.SUCCESS,
+            new ZigBeeCommand());
+
+    /**
+     * Initial and maximum periods (in milliseconds) at which uncompleted command responses are checked if the
+     * transport does not provide a {@link CompletableFuture}. The period starts short so that fast responses are not
+     * delayed, and is doubled on each check up to the maximum.
+     */
+    private final static long COMMAND_MONITOR_PERIOD_MIN = 5;
+    private final static long COMMAND_MONITOR_PERIOD = 100;
+
+    /**
+     * Maximum time (in seconds) to wait for the response to a command before giving up on it
+     */
+    private final static long COMMAND_MONITOR_TIMEOUT = 60;
+
+    /**
+     * The last state published to the channel, or null if no state has been published
+     */
+    private volatile State channelState = null;
+
+    /**
+     * The optimistic state update that is waiting to be confirmed by the device, or null if there is none
+     */
+    private final AtomicReference<OptimisticStateUpdate> optimisticUpdate = new AtomicReference<>();
+
     /**
      * Default minimum reporting period. Should be short to ensure we get dynamic state changes in a reasonable time
      */
@@ -174,6 +231,12 @@ public abstract class ZigBeeBaseChannelConverter {
      */
     protected int minimalReportingPeriod = Integer.MAX_VALUE;
 
+    /**
+     * Reporting configuration read back from the device when reporting reconciliation is enabled. This is keyed with
+     * the same key used for the device configuration records.
+     */
+    private final Map<String, String> deviceReportingConfiguration = new ConcurrentHashMap<>();
+
     /**
      * Constructor. Creates a new instance of the {@link ZigBeeBaseChannelConverter} class.
      *
@@ -216,6 +279,36 @@ public abstract class ZigBeeBaseChannelConverter {
         return true;
     }
 
+    /**
+     * Configures the device with {@link #initializeDevice()}, unless this converter has already configured the device
+     * on this endpoint. Successful configuration is recorded in the coordinator device configuration records, which are
+     * shared by the discovery service and the thing handler, so the device is only configured once even though both
+     * create converters for the device. The records are cleared when the user requests the device is reinitialised,
+     * or the node is removed from the network.
+     *
+     * @return true if the device is configured
+     */
+    public boolean initializeDeviceIfRequired() {
+        if (coordinator == null || endpoint == null) {
+            return initializeDevice();
+        }
+
+        String key = DEVICE_CONFIGURATION_CONVERTER + ':' + endpoint.getEndpointId() + ':' + getClass().getSimpleName();
+        Object lock = coordinator.getDeviceConfigurationLock(endpoint.getIeeeAddress());
+        synchronized (lock) {
+            if (isDeviceConfigured(key, Boolean.TRUE.toString())) {
+                logger.debug("{}: Device is already configured by {} on endpoint {}", endpoint.getIeeeAddress(),
+                        getClass().getSimpleName(), endpoint.getEndpointId());
+                return true;
+            }
+            if (!initializeDevice()) {
+                return false;
+            }
+            coordinator.setDeviceConfiguration(endpoint.getIeeeAddress(), key, Boolean.TRUE.toString());
+            return true;
+        }
+    }
+
     /**
      * Gets the cluster IDs that are implemented within the converter on the client side.
      *
@@ -230,6 +323,35 @@ public abstract class ZigBeeBaseChannelConverter {
      */
     public abstract Set<Integer> getImplementedServerClusters();
 
+    /**
+     * Gets the input cluster IDs that an endpoint may implement for this converter to support the endpoint. The
+     * converter can only provide a channel from {@link #getChannel(ThingUID, ZigBeeEndpoint)} if the endpoint
+     * implements at least one of these input clusters, or at least one of the {@link #getRequiredOutputClusters()}.
+     * <p>
+     * This allows the channel converter factory to only check converters that may support an endpoint. By default
+     * this returns the {@link #getImplementedClientClusters()}. Converters that require fewer clusters than they
+     * implement should override this method. If both this method and {@link #getRequiredOutputClusters()} return an
+     * empty set, the converter is checked for every endpoint.
+     *
+     * @return Set of input cluster IDs, one of which an endpoint must implement for this converter to provide a channel
+     */
+    public Set<Integer> getRequiredInputClusters() {
+        return getImplementedClientClusters();
+    }
+
+    /**
+     * Gets the output cluster IDs that an endpoint may implement for this converter to support the endpoint. See
+     * {@link #getRequiredInputClusters()}.
+     * <p>
+     * By default this returns the {@link #getImplementedServerClusters()}.
+     *
+     * @return Set of output cluster IDs, one of which an endpoint must implement for this converter to provide a
+     *         channel
+     */
+    public Set<Integer> getRequiredOutputClusters() {
+        return getImplementedServerClusters();
+    }
+
     /**
      * Initialise the converter. This is called by the {@link ZigBeeThingHandler} when the channel is created. The
      * converter should initialise any internal states, open any clusters, add reporting and binding that it needs to
@@ -276,6 +398,22 @@ public abstract class ZigBeeBaseChannelConverter {
         // Overridable if a channel can be commanded
     }
 
+    /**
+     * Receives a command from openHAB and translates it to an operation on the ZigBeee network, returning a future that
+     * completes once the device has responded to the command. The thing handler calls this method, and waits for the
+     * future to complete before sending the next command to the channel.
+     * <p>
+     * The default implementation calls {@link #handleCommand(Command)} and returns a completed future. Converters that
+     * monitor the response to their commands should override this method to return the response without blocking.
+     *
+     * @param command the {@link Command} to send
+     * @return a {@link CompletableFuture} completed with true once the command has completed successfully
+     */
+    public CompletableFuture<Boolean> handleCommandAsync(final Command command) {
+        handleCommand(command);
+        return CompletableFuture.completedFuture(true);
+    }
+
     /**
      * Creates a {@link Channel} if this converter supports features from the {@link ZigBeeEndpoint}
      * If the converter doesn't support any features, it returns null.
@@ -299,8 +437,15 @@ public abstract class ZigBeeBaseChannelConverter {
      * @param state the updated {@link State}
      */
     protected void updateChannelState(State state) {
+        // Any state received from the device supersedes an unconfirmed optimistic update
+        optimisticUpdate.set(null);
+        publishChannelState(state);
+    }
+
+    private void publishChannelState(State state) {
         logger.debug("{}: Channel {} updated to {}", endpoint.getIeeeAddress(), channelUID, state);
 
+        channelState = state;
         thing.setChannelState(channelUID, state);
     }
 
@@ -506,14 +651,250 @@ public abstract class ZigBeeBaseChannelConverter {
     }
 
     /**
-     * Creates a binding from the remote cluster to the local {@link ZigBeeProfileType#ZIGBEE_HOME_AUTOMATION} endpoint
+     * Creates a binding from the remote cluster to the local {@link ZigBeeProfileType#ZIGBEE_HOME_AUTOMATION} endpoint.
+     * If the binding has previously been created in the device, the request is not resent and a successful result is
+     * returned immediately - see {@link #isDeviceAlreadyConfigured(CommandResult)}.
      *
      * @param cluster the remote {@link ZclCluster} to bind to
      * @return the future {@link CommandResult}
      */
     protected Future<CommandResult> bind(ZclCluster cluster) {
-        return cluster.bind(coordinator.getLocalIeeeAddress(),
-                coordinator.getLocalEndpointId(ZigBeeProfileType.ZIGBEE_HOME_AUTOMATION));
+        IeeeAddress localAddress = coordinator.getLocalIeeeAddress();
+        int localEndpointId = coordinator.getLocalEndpointId(ZigBeeProfileType.ZIGBEE_HOME_AUTOMATION);
+
+        String key = getDeviceConfigurationKey(DEVICE_CONFIGURATION_BIND, cluster, (Integer) null);
+        String value = localAddress + "/" + localEndpointId;
+        if (isDeviceConfigured(key, value)) {
+            logger.debug("{}: Binding for cluster {} is already configured", endpoint.getIeeeAddress(),
+                    cluster.getClusterId());
+            return CompletableFuture.completedFuture(DEVICE_ALREADY_CONFIGURED);
+        }
+
+        return new DeviceConfigurationFuture(cluster.bind(localAddress, localEndpointId), key, value);
+    }
+
+    /**
+     * Configures reporting for an attribute. If the same reporting configuration has previously been applied to the
+     * device, the request is not resent and a successful result is returned immediately - see
+     * {@link #isDeviceAlreadyConfigured(CommandResult)}.
+     *
+     * @param attribute the {@link ZclAttribute} to configure reporting for
+     * @param minInterval the minimum reporting interval
+     * @param maxInterval the maximum reporting interval
+     * @return the future {@link CommandResult}
+     */
+    protected Future<CommandResult> setReporting(ZclAttribute attribute, int minInterval, int maxInterval) {
+        return setReporting(attribute, minInterval, maxInterval, null);
+    }
+
+    /**
+     * Configures reporting for an attribute. If the same reporting configuration has previously been applied to the
+     * device, the request is not resent and a successful result is returned immediately - see
+     * {@link #isDeviceAlreadyConfigured(CommandResult)}.
+     *
+     * @param attribute the {@link ZclAttribute} to configure reporting for
+     * @param minInterval the minimum reporting interval
+     * @param maxInterval the maximum reporting interval
+     * @param reportableChange the minimum change required to trigger a report, or null for discrete attributes
+     * @return the future {@link CommandResult}
+     */
+    protected Future<CommandResult> setReporting(ZclAttribute attribute, int minInterval, int maxInterval,
+            Object reportableChange) {
+        String key = getDeviceConfigurationKey(DEVICE_CONFIGURATION_REPORTING, attribute.getCluster(), attribute);
+        String value = getReportingConfigurationValue(minInterval, maxInterval, reportableChange);
+        if (isDeviceConfigured(key, value)) {
+            logger.debug("{}: Reporting for attribute {} is already configured", endpoint.getIeeeAddress(),
+                    attribute.getId());
+            return CompletableFuture.completedFuture(DEVICE_ALREADY_CONFIGURED);
+        }
+
+        if (key != null && coordinator != null && coordinator.isReportingReconciliationEnabled()) {
+            if (!deviceReportingConfiguration.containsKey(key)) {
+                readReportingConfiguration(attribute.getCluster(), attribute.getId());
+            }
+            if (value.equals(deviceReportingConfiguration.get(key))) {
+                logger.debug("{}: Reporting for attribute {} already matches the device configuration",
+                        endpoint.getIeeeAddress(), attribute.getId());
+                coordinator.setDeviceConfiguration(endpoint.getIeeeAddress(), key, value);
+                return CompletableFuture.completedFuture(DEVICE_ALREADY_CONFIGURED);
+            }
+        }
+
+        Future<CommandResult> future;
+        if (reportableChange == null) {
+            future = attribute.setReporting(minInterval, maxInterval);
+        } else {
+            future = attribute.setReporting(minInterval, maxInterval, reportableChange);
+        }
+        return new DeviceConfigurationFuture(future, key, value);
+    }
+
+    /**
+     * Reads the current reporting configuration of a set of attributes from the device in a single request. This is
+     * only performed if reporting reconciliation is enabled in the coordinator, and only for attributes where no
+     * configuration has been recorded. The results are used by {@link #setReporting(ZclAttribute, int, int, Object)}
+     * so that Configure Reporting is only sent if the device configuration differs from the requested configuration.
+     * <p>
+     * Converters that configure reporting on multiple attributes in the same cluster should call this first so that
+     * all the attributes are read in one transaction.
+     *
+     * @param cluster the {@link ZclCluster} to read
+     * @param attributeIds the attributes to read the reporting configuration for
+     */
+    protected void readReportingConfiguration(ZclCluster cluster, int... attributeIds) {
+        if (cluster == null || coordinator == null || !coordinator.isReportingReconciliationEnabled()) {
+            return;
+        }
+
+        Map<Integer, String> keys = new HashMap<>();
+        List<AttributeRecord> records = new ArrayList<>();
+        for (int attributeId : attributeIds) {
+            String key = getDeviceConfigurationKey(DEVICE_CONFIGURATION_REPORTING, cluster, attributeId);
+            if (deviceReportingConfiguration.containsKey(key)
+                    || coordinator.getDeviceConfiguration(endpoint.getIeeeAddress(), key) != null) {
+                continue;
+            }
+            keys.put(attributeId, key);
+
+            AttributeRecord record = new AttributeRecord();
+            record.setDirection(0);
+            record.setAttributeIdentifier(attributeId);
+            records.add(record);
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+
+        // Mark all attributes as read so that we don't request them again if the device doesn't respond
+        for (String key : keys.values()) {
+            deviceReportingConfiguration.put(key, "");
+        }
+
+        try {
+            CommandResult result = cluster.sendCommand(new ReadReportingConfigurationCommand(records)).get();
+            if (!result.isSuccess() || !(result.getResponse() instanceof ReadReportingConfigurationResponse)) {
+                logger.debug("{}: Unable to read reporting configuration for cluster {}", endpoint.getIeeeAddress(),
+                        cluster.getClusterId());
+                return;
+            }
+
+            ReadReportingConfigurationResponse response = (ReadReportingConfigurationResponse) result.getResponse();
+            for (AttributeReportingConfigurationRecord record : response.getRecords()) {
+                String key = keys.get(record.getAttributeIdentifier());
+                if (key == null || record.getStatus() != ZclStatus.SUCCESS) {
+                    continue;
+                }
+                String value = getReportingConfigurationValue(record.getMinimumReportingInterval(),
+                        record.getMaximumReportingInterval(), record.getReportableChange());
+                logger.debug("{}: Device reporting configuration for cluster {} attribute {} is {}",
+                        endpoint.getIeeeAddress(), cluster.getClusterId(), record.getAttributeIdentifier(), value);
+                deviceReportingConfiguration.put(key, value);
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            logger.debug("{}: Exception reading reporting configuration", endpoint.getIeeeAddress(), e);
+        }
+    }
+
+    private String getReportingConfigurationValue(int minInterval, int maxInterval, Object reportableChange) {
+        String change = null;
+        if (reportableChange instanceof Number) {
+            // Normalise the number so that the device response (which may be a different type) can be compared
+            change = new BigDecimal(reportableChange.toString()).stripTrailingZeros().toPlainString();
+        } else if (reportableChange != null) {
+            change = reportableChange.toString();
+        }
+        return minInterval + "," + maxInterval + "," + change;
+    }
+
+    private String getDeviceConfigurationKey(String type, ZclCluster cluster, ZclAttribute attribute) {
+        if (attribute == null) {
+            return getDeviceConfigurationKey(type, cluster, (Integer) null);
+        }
+        return getDeviceConfigurationKey(type, cluster, Integer.valueOf(attribute.getId()));
+    }
+
+    private String getDeviceConfigurationKey(String type, ZclCluster cluster, Integer attributeId) {
+        if (cluster == null) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder();
+        builder.append(type);
+        builder.append(':');
+        builder.append(endpoint.getEndpointId());
+        builder.append(':');
+        builder.append(String.format("%04X", cluster.getClusterId()));
+        if (attributeId != null) {
+            builder.append(':');
+            builder.append(String.format("%04X", attributeId));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Checks if a configuration request was not sent to the device as the device already holds the configuration
+     *
+     * @param result the {@link CommandResult} returned from {@link #bind(ZclCluster)} or
+     *            {@link #setReporting(ZclAttribute, int, int, Object)}
+     * @return true if the request was not sent, false if the result is a response from the device
+     */
+    protected static boolean isDeviceAlreadyConfigured(CommandResult result) {
+        return result == DEVICE_ALREADY_CONFIGURED;
+    }
+
+    private boolean isDeviceConfigured(String key, String value) {
+        if (key == null || coordinator == null) {
+            return false;
+        }
+        return value.equals(coordinator.getDeviceConfiguration(endpoint.getIeeeAddress(), key));
+    }
+
+    /**
+     * Wraps the response to a configuration request so that the configuration is recorded in the coordinator once
+     * the device has confirmed it was applied.
+     */
+    private class DeviceConfigurationFuture implements Future<CommandResult> {
+        private final Future<CommandResult> future;
+        private final String key;
+        private final String value;
+
+        DeviceConfigurationFuture(Future<CommandResult> future, String key, String value) {
+            this.future = future;
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return future.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return future.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return future.isDone();
+        }
+
+        @Override
+        public CommandResult get() throws InterruptedException, ExecutionException {
+            return record(future.get());
+        }
+
+        @Override
+        public CommandResult get(long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            return record(future.get(timeout, unit));
+        }
+
+        private CommandResult record(CommandResult result) {
+            if (result != null && result.isSuccess() && key != null && coordinator != null) {
+                coordinator.setDeviceConfiguration(endpoint.getIeeeAddress(), key, value);
+            }
+            return result;
+        }
     }
 
     /**
@@ -524,11 +905,14 @@ public abstract class ZigBeeBaseChannelConverter {
      * <li>If there is no attribute report received, then we set the state to the original command (if applicable)
      * </ul>
      * <p>
-     * Note that this is called from a separate thread created in the ThingHandler, so we can safely block here.
+     * Note that this blocks the calling thread until the device responds, so a thread is tied up for each outstanding
+     * command.
      *
      * @param command the {@link Command} that was sent from the framework
      * @param future the response from the sendCommand method when sending a command (may be null)
+     * @deprecated use {@link #monitorCommandResponseAsync(Command, Future)} which does not block the calling thread
      */
+    @Deprecated
     protected void monitorCommandResponse(final Command command, final Future<CommandResult> future) {
         if (future == null) {
             return;
@@ -544,12 +928,16 @@ public abstract class ZigBeeBaseChannelConverter {
      * <li>If there is no attribute report received, then we set the state to the original command (if applicable)
      * </ul>
      * <p>
-     * Note that this is called from a separate thread created in the ThingHandler, so we can safely block here.
+     * Note that this blocks the calling thread until the device responds, so a thread is tied up for each outstanding
+     * command.
      *
      * @param command the {@link Command} that was sent from the framework
      * @param future the response from the sendCommand method when sending a command (may be null)
      * @param completionFunction the expression to be called on successful completion
+     * @deprecated use {@link #monitorCommandResponseAsync(Command, Future, Consumer)} which does not block the calling
+     *             thread
      */
+    @Deprecated
     protected void monitorCommandResponse(Command command, final Future<CommandResult> future,
             Consumer<Command> completionFunction) {
         if (future == null) {
@@ -566,11 +954,14 @@ public abstract class ZigBeeBaseChannelConverter {
      * <li>If there is no attribute report received, then we set the state to the original command (if applicable)
      * </ul>
      * <p>
-     * Note that this is called from a separate thread created in the ThingHandler, so we can safely block here.
+     * Note that this blocks the calling thread until the device responds, so a thread is tied up for each outstanding
+     * command.
      *
      * @param command the OH command that is being sent
      * @param futures the list of futures to wait for for the ZCL commands being sent to the device
+     * @deprecated use {@link #monitorCommandResponseAsync(Command, List)} which does not block the calling thread
      */
+    @Deprecated
     protected void monitorCommandResponse(Command command, List<Future<CommandResult>> futures) {
         monitorCommandResponse(command, futures, cmd -> {
             updateChannelState((State) cmd);
@@ -585,12 +976,16 @@ public abstract class ZigBeeBaseChannelConverter {
      * <li>If there is no attribute report received, then we set the state to the original command (if applicable)
      * </ul>
      * <p>
-     * Note that this is called from a separate thread created in the ThingHandler, so we can safely block here.
+     * Note that this blocks the calling thread until the device responds, so a thread is tied up for each outstanding
+     * command.
      *
      * @param command the OH command that is being sent
      * @param futures the list of futures to wait for for the ZCL commands being sent to the device
      * @param completionFunction the expression to be called on successful completion
+     * @deprecated use {@link #monitorCommandResponseAsync(Command, List, Consumer)} which does not block the calling
+     *             thread
      */
+    @Deprecated
     protected void monitorCommandResponse(Command command, List<Future<CommandResult>> futures,
             Consumer<Command> completionFunction) {
         try {
@@ -599,30 +994,270 @@ public abstract class ZigBeeBaseChannelConverter {
                 if (future == null) {
                     continue;
                 }
-                CommandResult response = future.get();
-                if (response.isTimeout()) {
-                    logger.debug("{}: Channel {} received TIMEOUT in response to {}", endpoint.getIeeeAddress(),
-                            channelUID, command);
-                    thing.aliveTimeoutReached();
-                    return;
-                }
-                if (response.isError()) {
-                    logger.debug("{}: Channel {} received ERROR in response to {}", endpoint.getIeeeAddress(),
-                            channelUID, command);
+                if (!isCommandResponseSuccessful(command, future.get())) {
                     return;
                 }
             }
-            // No commands timed out or errored
-            logger.debug("{}: Channel {} received SUCCESS in response to {}", endpoint.getIeeeAddress(), channelUID,
+            commandResponseSuccessful(command, completionFunction);
+        } catch (InterruptedException | ExecutionException e) {
+        }
+    }
+
+    /**
+     * Monitors the command response without blocking the calling thread. This provides the same function as
+     * {@link #monitorCommandResponse(Command, Future)}.
+     *
+     * @param command the {@link Command} that was sent from the framework
+     * @param future the response from the sendCommand method when sending a command (may be null)
+     * @return a {@link CompletableFuture} completed with true once the command completed successfully
+     */
+    protected CompletableFuture<Boolean> monitorCommandResponseAsync(final Command command,
+            final Future<CommandResult> future) {
+        if (future == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return monitorCommandResponseAsync(command, Collections.singletonList(future));
+    }
+
+    /**
+     * Monitors the command response without blocking the calling thread. This provides the same function as
+     * {@link #monitorCommandResponse(Command, Future, Consumer)}.
+     *
+     * @param command the {@link Command} that was sent from the framework
+     * @param future the response from the sendCommand method when sending a command (may be null)
+     * @param completionFunction the expression to be called on successful completion
+     * @return a {@link CompletableFuture} completed with true once the command completed successfully
+     */
+    protected CompletableFuture<Boolean> monitorCommandResponseAsync(Command command,
+            final Future<CommandResult> future, Consumer<Command> completionFunction) {
+        if (future == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return monitorCommandResponseAsync(command, Collections.singletonList(future), completionFunction);
+    }
+
+    /**
+     * Monitors the command response without blocking the calling thread. This provides the same function as
+     * {@link #monitorCommandResponse(Command, List)}.
+     * <p>
+     * If an optimistic state window is configured in the coordinator, the channel is updated to the commanded state
+     * immediately rather than once the device responds. The state is rolled back to the previous state if the command
+     * fails, or if it is not confirmed within the window. A state received from the device within the window, such as
+     * an attribute report, replaces the optimistic state and no rollback is performed.
+     *
+     * @param command the OH command that is being sent
+     * @param futures the list of futures to wait for for the ZCL commands being sent to the device
+     * @return a {@link CompletableFuture} completed with true once all commands completed successfully
+     */
+    protected CompletableFuture<Boolean> monitorCommandResponseAsync(Command command,
+            List<Future<CommandResult>> futures) {
+        int optimisticWindow = coordinator == null ? 0 : coordinator.getOptimisticStateWindow();
+        if (optimisticWindow > 0 && command instanceof State) {
+            return monitorOptimisticCommandResponse((State) command, futures, optimisticWindow);
+        }
+        return monitorCommandResponseAsync(command, futures, cmd -> {
+            updateChannelState((State) cmd);
+        });
+    }
+
+    private CompletableFuture<Boolean> monitorOptimisticCommandResponse(State state,
+            List<Future<CommandResult>> futures, int optimisticWindow) {
+        OptimisticStateUpdate update = new OptimisticStateUpdate(state, channelState);
+        optimisticUpdate.set(update);
+        publishChannelState(state);
+
+        ScheduledFuture<?> rollbackTimer = getTimerService().schedule(() -> rollbackOptimisticState(update),
+                optimisticWindow, TimeUnit.SECONDS);
+        CompletableFuture<Boolean> response = monitorCommandResponseAsync(state, futures,
+                cmd -> confirmOptimisticState(update));
+        response.whenComplete((success, exception) -> {
+            rollbackTimer.cancel(false);
+            if (!Boolean.TRUE.equals(success)) {
+                rollbackOptimisticState(update);
+                optimisticUpdate.compareAndSet(update, null);
+            }
+        });
+        return response;
+    }
+
+    private void confirmOptimisticState(OptimisticStateUpdate update) {
+        synchronized (update) {
+            if (!optimisticUpdate.compareAndSet(update, null)) {
+                // The state has since been updated from the device, or by a later command
+                return;
+            }
+            if (update.rolledBack) {
+                // The device responded after the window had expired
+                publishChannelState(update.state);
+            }
+        }
+    }
+
+    private void rollbackOptimisticState(OptimisticStateUpdate update) {
+        synchronized (update) {
+            if (optimisticUpdate.get() != update || update.rolledBack) {
+                return;
+            }
+            update.rolledBack = true;
+
+            State previousState = update.previousState == null ? UnDefType.UNDEF : update.previousState;
+            logger.debug("{}: Channel {} rolling back optimistic state {} to {}", endpoint.getIeeeAddress(),
+                    channelUID, update.state, previousState);
+            publishChannelState(previousState);
+        }
+    }
+
+    /**
+     * Monitors the command response without blocking the calling thread. This provides the same function as
+     * {@link #monitorCommandResponse(Command, List, Consumer)}, however the responses are composed and the completion
+     * function is called from the thread that completes the last response. This allows many commands to be in flight
+     * without tying up a command thread for each one.
+     *
+     * @param command the OH command that is being sent
+     * @param futures the list of futures to wait for for the ZCL commands being sent to the device
+     * @param completionFunction the expression to be called on successful completion
+     * @return a {@link CompletableFuture} completed with true once all commands completed successfully
+     */
+    protected CompletableFuture<Boolean> monitorCommandResponseAsync(Command command,
+            List<Future<CommandResult>> futures, Consumer<Command> completionFunction) {
+        logger.debug("{}: Channel {} waiting for response to {}", endpoint.getIeeeAddress(), channelUID, command);
+
+        List<CompletableFuture<CommandResult>> responses = new ArrayList<>();
+        for (Future<CommandResult> future : futures) {
+            if (future != null) {
+                responses.add(toCompletableFuture(future));
+            }
+        }
+
+        CompletableFuture<Boolean> response = CompletableFuture
+                .allOf(responses.toArray(new CompletableFuture[responses.size()]))
+                .orTimeout(COMMAND_MONITOR_TIMEOUT, TimeUnit.SECONDS).handle((result, exception) -> {
+                    if (exception != null) {
+                        logger.debug("{}: Channel {} failed waiting for response to {}: {}",
+                                endpoint.getIeeeAddress(), channelUID, command, exception.getMessage());
+                        return false;
+                    }
+                    for (CompletableFuture<CommandResult> response : responses) {
+                        if (!isCommandResponseSuccessful(command, response.join())) {
+                            return false;
+                        }
+                    }
+                    commandResponseSuccessful(command, completionFunction);
+                    return true;
+                });
+        return response;
+    }
+
+    /**
+     * Checks a single command response. If the command timed out, the thing is notified that it is no longer alive.
+     *
+     * @param command the OH command that is being sent
+     * @param response the {@link CommandResult}
+     * @return true if the command was successful
+     */
+    private boolean isCommandResponseSuccessful(Command command, CommandResult response) {
+        if (response.isTimeout()) {
+            logger.debug("{}: Channel {} received TIMEOUT in response to {}", endpoint.getIeeeAddress(), channelUID,
                     command);
+            thing.aliveTimeoutReached();
+            return false;
+        }
+        if (response.isError()) {
+            logger.debug("{}: Channel {} received ERROR in response to {}", endpoint.getIeeeAddress(), channelUID,
+                    command);
+            return false;
+        }
+        return true;
+    }
 
-            // Treat a successful response as confirmation the device is in the commanded state
-            // This might not be 100% correct, but if the device doesn't send the report, then things can get messy, so
-            // this is a good compromise.
-            completionFunction.accept(command);
+    private void commandResponseSuccessful(Command command, Consumer<Command> completionFunction) {
+        // No commands timed out or errored
+        logger.debug("{}: Channel {} received SUCCESS in response to {}", endpoint.getIeeeAddress(), channelUID,
+                command);
 
-            thing.alive();
-        } catch (InterruptedException | ExecutionException e) {
+        // Treat a successful response as confirmation the device is in the commanded state
+        // This might not be 100% correct, but if the device doesn't send the report, then things can get messy, so
+        // this is a good compromise.
+        completionFunction.accept(command);
+
+        thing.alive();
+    }
+
+    /**
+     * Gets the timer service shared by all converters. Converters should use this for any timers rather than creating
+     * their own executor.
+     *
+     * @return the shared {@link ScheduledExecutorService}
+     */
+    protected ScheduledExecutorService getTimerService() {
+        ScheduledExecutorService timerService = coordinator == null ? null : coordinator.getTimerService();
+        if (timerService == null) {
+            return ThreadPoolManager.getScheduledPool(ZigBeeBindingConstants.TIMER_POOL);
+        }
+        return timerService;
+    }
+
+    /**
+     * Adapts a {@link Future} to a {@link CompletableFuture}. A {@link CompletableFuture} is returned as is, so that
+     * responses are chained directly from the transport. Only if the future is a plain {@link Future} is its completion
+     * checked periodically from the shared timer service as a fallback, rather than blocking a thread on it.
+     *
+     * @param future the {@link Future} to adapt
+     * @return the {@link CompletableFuture}
+     */
+    @SuppressWarnings("unchecked")
+    protected CompletableFuture<CommandResult> toCompletableFuture(Future<CommandResult> future) {
+        if (future instanceof CompletableFuture) {
+            return (CompletableFuture<CommandResult>) future;
+        }
+
+        CompletableFuture<CommandResult> completable = new CompletableFuture<>();
+        if (completeFrom(completable, future)) {
+            return completable;
+        }
+
+        completable.orTimeout(COMMAND_MONITOR_TIMEOUT, TimeUnit.SECONDS).whenComplete((result, exception) -> {
+            if (exception != null) {
+                future.cancel(false);
+            }
+        });
+        scheduleCompletionCheck(completable, future, COMMAND_MONITOR_PERIOD_MIN);
+        return completable;
+    }
+
+    private void scheduleCompletionCheck(CompletableFuture<CommandResult> completable, Future<CommandResult> future,
+            long period) {
+        getTimerService().schedule(() -> {
+            if (completable.isDone() || completeFrom(completable, future)) {
+                return;
+            }
+            scheduleCompletionCheck(completable, future, Math.min(period * 2, COMMAND_MONITOR_PERIOD));
+        }, period, TimeUnit.MILLISECONDS);
+    }
+
+    private boolean completeFrom(CompletableFuture<CommandResult> completable, Future<CommandResult> future) {
+        if (!future.isDone()) {
+            return false;
+        }
+        try {
+            completable.complete(future.get());
+        } catch (InterruptedException | ExecutionException | RuntimeException e) {
+            completable.completeExceptionally(e);
+        }
+        return true;
+    }
+
+    /**
+     * An optimistic state update that has been published to the channel before being confirmed by the device
+     */
+    private static class OptimisticStateUpdate {
+        private final State state;
+        private final State previousState;
+        private boolean rolledBack = false;
+
+        OptimisticStateUpdate(State state, State previousState) {
+            this.state = state;
+            this.previousState = previousState;
         }
     }
 }
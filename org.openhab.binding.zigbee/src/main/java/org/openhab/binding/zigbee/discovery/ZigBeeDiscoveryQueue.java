@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zigbee.discovery;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.zigbee.internal.ZigBeePriorityJobQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+
+/**
+ * Queues the discovery of nodes for the {@link ZigBeeDiscoveryService}.
+ * <p>
+ * Discovery jobs block while the node properties are read and the device is configured, so they are run on a
+ * {@link ZigBeePriorityJobQueue} with a bounded number of threads. This stops a large number of nodes - eg following a
+ * coordinator change - from flooding the network with requests. A node is only queued once - further requests for a
+ * node that is still waiting in the queue are ignored, unless the new request has a higher priority.
+ * <p>
+ * Nodes that have just announced themselves are discovered first, since battery devices are likely to be awake for
+ * a short time after joining. The most recently announced node is discovered first for the same reason. Existing
+ * nodes found during a scan are discovered in the order they were queued.
+ *
+ * @author Chris Jackson - Initial contribution
+ */
+@NonNullByDefault
+class ZigBeeDiscoveryQueue {
+    private static final int PRIORITY_ANNOUNCED = 0;
+    private static final int PRIORITY_EXISTING = 1;
+
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeDiscoveryQueue.class);
+
+    private final ZigBeePriorityJobQueue<IeeeAddress> queue;
+
+    /**
+     * Creates the queue
+     *
+     * @param concurrency the maximum number of nodes that may be discovered concurrently
+     */
+    ZigBeeDiscoveryQueue(int concurrency) {
+        queue = new ZigBeePriorityJobQueue<>("Discovery", "zigbee-discovery", concurrency);
+    }
+
+    /**
+     * Sets the maximum number of nodes that may be discovered concurrently. Discoveries that are already running are
+     * not affected.
+     *
+     * @param concurrency the maximum number of nodes that may be discovered concurrently
+     */
+    void setConcurrency(int concurrency) {
+        queue.setConcurrency(concurrency);
+    }
+
+    /**
+     * Gets the maximum number of nodes that may be discovered concurrently
+     *
+     * @return the discovery concurrency
+     */
+    int getConcurrency() {
+        return queue.getConcurrency();
+    }
+
+    /**
+     * Queues the discovery of a node
+     *
+     * @param address the {@link IeeeAddress} of the node
+     * @param announced true if the node has just announced itself, and should be discovered before other nodes
+     * @param discovery the {@link Runnable} that performs the discovery
+     * @return true if the discovery was queued, false if it was already queued or the queue is shutdown
+     */
+    boolean schedule(IeeeAddress address, boolean announced, Runnable discovery) {
+        // Newest first for announced nodes, and oldest first for other nodes
+        long sequence = queue.nextSequence();
+        boolean queued = queue.schedule(address, this, announced ? PRIORITY_ANNOUNCED : PRIORITY_EXISTING,
+                announced ? -sequence : sequence, () -> {
+                    discovery.run();
+                    logger.debug("{}: Discovery complete - queue depth {}", address, getQueueDepth());
+                });
+        if (queued) {
+            logger.debug("{}: Discovery queued{} - queue depth {}", address, announced ? " for announced node" : "",
+                    getQueueDepth());
+        }
+        return queued;
+    }
+
+    /**
+     * Gets the number of nodes waiting to be discovered
+     *
+     * @return the number of queued discoveries
+     */
+    int getQueueDepth() {
+        return queue.getQueueLength();
+    }
+
+    /**
+     * Stops the queue. Any queued discoveries are discarded, and discoveries that are already running are allowed to
+     * complete.
+     */
+    void shutdown() {
+        queue.shutdown();
+    }
+}
@@ -36,6 +36,7 @@ import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.UID;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
@@ -69,6 +70,12 @@ public class ZigBeeDiscoveryService extends AbstractDiscoveryService {
     private final static int SEARCH_TIME = 60;
     private final static String CONFIG_PROPERTY_CREATE_RESULTS_ONLY_DURING_ACTIVE_SCANS = "createResultsOnlyDuringActiveScans";
 
+    /**
+     * Default maximum number of nodes that may be discovered concurrently
+     */
+    private final static int DISCOVERY_CONCURRENCY = 2;
+    private final static String CONFIG_PROPERTY_DISCOVERY_CONCURRENCY = "discoveryConcurrency";
+
     private boolean createResultsOnlyDuringActiveScans = true;
     private volatile boolean scanStarted = false;
 
@@ -79,6 +86,8 @@ public class ZigBeeDiscoveryService extends AbstractDiscoveryService {
 
     private ZigBeeChannelConverterFactory zigbeeChannelConverterFactory;
 
+    private final ZigBeeDiscoveryQueue discoveryQueue = new ZigBeeDiscoveryQueue(DISCOVERY_CONCURRENCY);
+
     public ZigBeeDiscoveryService() {
         super(SEARCH_TIME);
         logger.debug("Starting ZigBeeDiscoveryService");
@@ -107,6 +116,14 @@ public class ZigBeeDiscoveryService extends AbstractDiscoveryService {
     public void activate(Map<String, Object> properties) {
         super.activate(properties);
         setResultsOnlyDuringActiveScansProperty(properties);
+        setDiscoveryConcurrencyProperty(properties);
+    }
+
+    @Override
+    @Deactivate
+    protected void deactivate() {
+        discoveryQueue.shutdown();
+        super.deactivate();
     }
 
     @Override
@@ -114,6 +131,7 @@ public class ZigBeeDiscoveryService extends AbstractDiscoveryService {
     public void modified(Map<String, Object> properties) {
         super.modified(properties);
         setResultsOnlyDuringActiveScansProperty(properties);
+        setDiscoveryConcurrencyProperty(properties);
     }
 
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
@@ -127,7 +145,7 @@ public class ZigBeeDiscoveryService extends AbstractDiscoveryService {
                 logger.debug("{}: ZigBee Discovery: Node added - scanStarted={}, createOnlyDuringScan={}",
                         node.getIeeeAddress(), scanStarted, createResultsOnlyDuringActiveScans);
                 if (!createResultsOnlyDuringActiveScans || createResultsOnlyDuringActiveScans && scanStarted) {
-                    ZigBeeDiscoveryService.this.nodeDiscovered(coordinatorHandler, node);
+                    ZigBeeDiscoveryService.this.nodeDiscovered(coordinatorHandler, node, true);
                 }
             }
         };
@@ -141,6 +159,15 @@ public class ZigBeeDiscoveryService extends AbstractDiscoveryService {
         coordinatorHandler.removeNetworkNodeListener(registeredListeners.remove(coordinatorHandler.getUID()));
     }
 
+    /**
+     * Gets the number of nodes waiting to be discovered
+     *
+     * @return the discovery queue depth
+     */
+    public int getDiscoveryQueueDepth() {
+        return discoveryQueue.getQueueDepth();
+    }
+
     @Override
     public Set<ThingTypeUID> getSupportedThingTypes() {
         return participants.stream().flatMap(participant -> participant.getSupportedThingTypeUIDs().stream())
@@ -152,17 +179,15 @@ public class ZigBeeDiscoveryService extends AbstractDiscoveryService {
         scanStarted = true;
 
         for (ZigBeeCoordinatorHandler coordinator : coordinatorHandlers) {
+            // Nodes that already have a thing don't need to be discovered, even if the thing is not yet initialised
+            Set<IeeeAddress> childAddresses = coordinator.getChildThingAddresses();
             for (ZigBeeNode node : coordinator.getNodes()) {
-                if (node.getNetworkAddress() == 0 || (coordinator.getThing().getThings().stream()
-                        .anyMatch(thing -> new IeeeAddress(
-                                (String) thing.getConfiguration().get(ZigBeeBindingConstants.CONFIGURATION_MACADDRESS))
-                                        .equals(node.getIeeeAddress())
-                                && node.isDiscovered()))) {
+                if (node.getNetworkAddress() == 0 || childAddresses.contains(node.getIeeeAddress())) {
                     continue;
                 }
 
                 logger.debug("{}: Discovery: Starting discovery for existing device", node.getIeeeAddress());
-                nodeDiscovered(coordinator, node);
+                nodeDiscovered(coordinator, node, false);
             }
 
             logger.debug("Starting ZigBee scan for {}", coordinator.getUID());
@@ -179,8 +204,9 @@ public class ZigBeeDiscoveryService extends AbstractDiscoveryService {
      * create the thingType, and the label for the user.
      *
      * @param node the new {@link ZigBeeNode}
+     * @param announced true if the node has just announced itself, and is likely to be awake
      */
-    private void nodeDiscovered(ZigBeeCoordinatorHandler coordinator, final ZigBeeNode node) {
+    private void nodeDiscovered(ZigBeeCoordinatorHandler coordinator, final ZigBeeNode node, boolean announced) {
         // If this is the coordinator (NWK address 0), ignore this device
         if (node.getLogicalType() == LogicalType.COORDINATOR || node.getNetworkAddress() == 0) {
             logger.debug("{}: Not creating ZigBee device - coordinator", node.getIeeeAddress());
@@ -229,6 +255,7 @@ public class ZigBeeDiscoveryService extends AbstractDiscoveryService {
                 // This information is also performed here so that it is available to discovery participants
                 // as this can take some time and discovery participants should return promptly.
                 ZigBeeNodePropertyDiscoverer propertyDiscoverer = new ZigBeeNodePropertyDiscoverer();
+                propertyDiscoverer.setPropertyCache(coordinator.getNodePropertyCache());
                 Map<String, String> properties = propertyDiscoverer.getProperties(node);
 
                 Map<String, Object> nodeProperties = new HashMap<String, Object>(properties);
@@ -267,7 +294,7 @@ public class ZigBeeDiscoveryService extends AbstractDiscoveryService {
 
                         logger.debug("{}: Initializing channel {} with {}", node.getIeeeAddress(), channel.getUID(),
                                 channelConverter);
-                        if (channelConverter.initializeDevice() == false) {
+                        if (channelConverter.initializeDeviceIfRequired() == false) {
                             logger.info("{}: Channel {} failed to initialise device", node.getIeeeAddress(),
                                     channel.getUID());
                         }
@@ -297,7 +324,7 @@ public class ZigBeeDiscoveryService extends AbstractDiscoveryService {
             }
         };
 
-        scheduler.schedule(pollingRunnable, 10, TimeUnit.MILLISECONDS);
+        discoveryQueue.schedule(node.getIeeeAddress(), announced, pollingRunnable);
     }
 
     private void setResultsOnlyDuringActiveScansProperty(Map<String, Object> properties) {
@@ -315,4 +342,19 @@ public class ZigBeeDiscoveryService extends AbstractDiscoveryService {
             createResultsOnlyDuringActiveScans = false;
         }
     }
+
+    private void setDiscoveryConcurrencyProperty(Map<String, Object> properties) {
+        int concurrency = DISCOVERY_CONCURRENCY;
+        Object property = properties == null ? null : properties.get(CONFIG_PROPERTY_DISCOVERY_CONCURRENCY);
+        if (property instanceof Number) {
+            concurrency = ((Number) property).intValue();
+        } else if (property instanceof String) {
+            try {
+                concurrency = Integer.parseInt((String) property);
+            } catch (NumberFormatException e) {
+                logger.debug("ZigBee Discovery: Invalid discovery concurrency {}", property);
+            }
+        }
+        discoveryQueue.setConcurrency(concurrency);
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zigbee.discovery;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+
+/**
+ * Holds the properties read from each device by the {@link ZigBeeNodePropertyDiscoverer}. This allows the discovery
+ * service and the thing handler to share the properties read from a device rather than each reading them from the
+ * device in turn. The properties for a device should be invalidated when the device announces itself, since this may
+ * indicate that the device firmware has been updated or the device has been reset.
+ *
+ * @author Chris Jackson - Initial contribution
+ */
+@NonNullByDefault
+public class ZigBeeNodePropertyCache {
+    private final Map<IeeeAddress, Map<String, String>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the properties previously read from a device
+     *
+     * @param address the {@link IeeeAddress} of the device
+     * @return the unmodifiable {@link Map} of properties, or null if the properties are not cached
+     */
+    public @Nullable Map<String, String> get(IeeeAddress address) {
+        return cache.get(address);
+    }
+
+    /**
+     * Sets the properties read from a device
+     *
+     * @param address the {@link IeeeAddress} of the device
+     * @param properties the {@link Map} of properties read from the device
+     */
+    public void put(IeeeAddress address, Map<String, String> properties) {
+        cache.put(address, Map.copyOf(properties));
+    }
+
+    /**
+     * Removes the properties for a device so that they are read from the device the next time they are requested
+     *
+     * @param address the {@link IeeeAddress} of the device
+     */
+    public void invalidate(IeeeAddress address) {
+        cache.remove(address);
+    }
+
+    /**
+     * Removes the properties for all devices
+     */
+    public void clear() {
+        cache.clear();
+    }
+}
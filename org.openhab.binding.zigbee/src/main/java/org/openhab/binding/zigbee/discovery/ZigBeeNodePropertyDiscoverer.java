@@ -19,19 +19,24 @@ import static org.openhab.core.thing.Thing.*;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.binding.zigbee.ZigBeeBindingConstants;
 import org.openhab.core.thing.Thing;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeNode;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
@@ -62,8 +67,25 @@ public class ZigBeeNodePropertyDiscoverer {
         BASIC_CLUSTER_ATTRIBUTES_FOR_THING_PROPERTY = Collections.unmodifiableMap(map);
     }
 
+    /**
+     * The properties that are read from the device, and may therefore be cached
+     */
+    private static final Set<String> DEVICE_PROPERTIES;
+    static {
+        Set<String> set = new HashSet<>(BASIC_CLUSTER_ATTRIBUTES_FOR_THING_PROPERTY.keySet());
+        set.add(PROPERTY_FIRMWARE_VERSION);
+        DEVICE_PROPERTIES = Collections.unmodifiableSet(set);
+    }
+
+    /**
+     * Maximum time (in seconds) to wait for all property requests to complete
+     */
+    private static final long PROPERTY_DISCOVERY_TIMEOUT = 30;
+
     private Map<String, String> properties = new HashMap<String, String>();
 
+    private @Nullable ZigBeeNodePropertyCache cache;
+
     private boolean alwaysUpdate = false;
 
     /**
@@ -98,6 +120,16 @@ public class ZigBeeNodePropertyDiscoverer {
         this.alwaysUpdate = alwaysUpdate;
     }
 
+    /**
+     * Sets the cache used to share the properties read from devices. If a cache is set, and the properties for the
+     * device are cached, the device is not queried unless alwaysUpdate is set.
+     *
+     * @param cache the {@link ZigBeeNodePropertyCache}, or null to always read the properties from the device
+     */
+    public void setPropertyCache(@Nullable ZigBeeNodePropertyCache cache) {
+        this.cache = cache;
+    }
+
     /**
      * Gets the properties from the device
      *
@@ -108,8 +140,27 @@ public class ZigBeeNodePropertyDiscoverer {
         logger.debug("{}: ZigBee node property discovery start", node.getIeeeAddress());
 
         addPropertiesFromNodeDescriptors(node);
-        addPropertiesFromBasicCluster(node);
-        addPropertiesFromOtaCluster(node);
+
+        ZigBeeNodePropertyCache localCache = cache;
+        Map<String, String> cachedProperties = null;
+        if (localCache != null && !alwaysUpdate) {
+            cachedProperties = localCache.get(node.getIeeeAddress());
+        }
+
+        if (cachedProperties != null) {
+            logger.debug("{}: ZigBee node property discovery using cached properties", node.getIeeeAddress());
+            properties.putAll(cachedProperties);
+        } else if (addPropertiesFromClusters(node) && localCache != null) {
+            // Only cache the properties if all requests were successful so that failed requests are retried
+            Map<String, String> deviceProperties = new HashMap<>();
+            for (String property : DEVICE_PROPERTIES) {
+                String value = properties.get(property);
+                if (value != null) {
+                    deviceProperties.put(property, value);
+                }
+            }
+            localCache.put(node.getIeeeAddress(), deviceProperties);
+        }
 
         logger.debug("{}: ZigBee node property discovery complete: {}", node.getIeeeAddress(), properties);
 
@@ -137,98 +188,132 @@ public class ZigBeeNodePropertyDiscoverer {
         }
     }
 
-    private void addPropertiesFromBasicCluster(ZigBeeNode node) {
+    /**
+     * Reads the properties from the basic and OTA clusters. The OTA request, and any basic cluster attributes that
+     * could not be read with a single command, are requested concurrently. All requests share a single deadline so
+     * that a device that does not respond does not delay the discovery for each request in turn.
+     *
+     * @param node the {@link ZigBeeNode}
+     * @return true if all properties were read successfully
+     */
+    private boolean addPropertiesFromClusters(ZigBeeNode node) {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(PROPERTY_DISCOVERY_TIMEOUT);
+
         Optional<ZclCluster> cluster = node.getEndpoints().stream()
-                .map(ep -> ep.getInputCluster(ZclBasicCluster.CLUSTER_ID)).filter(Objects::nonNull).findFirst();
-        ZclBasicCluster basicCluster = (ZclBasicCluster) cluster.orElse(null);
+                .map(ep -> ep.getOutputCluster(ZclOtaUpgradeCluster.CLUSTER_ID)).filter(Objects::nonNull).findFirst();
+        ZclOtaUpgradeCluster otaCluster = (ZclOtaUpgradeCluster) cluster.orElse(null);
 
-        if (basicCluster == null) {
-            logger.debug("{}: Node doesn't support basic cluster", node.getIeeeAddress());
-            return;
+        // Start the OTA request first as it doesn't depend on the basic cluster requests
+        Future<CommandResult> otaFuture = null;
+        if (otaCluster != null) {
+            logger.debug("{}: ZigBee node property discovery using OTA cluster on endpoint {}", node.getIeeeAddress(),
+                    otaCluster.getZigBeeAddress());
+            otaFuture = readAttribute(otaCluster, ZclOtaUpgradeCluster.ATTR_CURRENTFILEVERSION);
+        } else {
+            logger.debug("{}: Node doesn't support OTA cluster", node.getIeeeAddress());
         }
 
-        logger.debug("{}: ZigBee node property discovery using basic cluster on endpoint {}", node.getIeeeAddress(),
-                basicCluster.getZigBeeAddress());
+        cluster = node.getEndpoints().stream().map(ep -> ep.getInputCluster(ZclBasicCluster.CLUSTER_ID))
+                .filter(Objects::nonNull).findFirst();
+        ZclBasicCluster basicCluster = (ZclBasicCluster) cluster.orElse(null);
 
-        // Attempt to read all properties with a single command.
-        // If successful, this updates the cache with the property values.
-        try {
+        Map<String, Integer> basicProperties = new HashMap<>();
+        if (basicCluster != null) {
+            logger.debug("{}: ZigBee node property discovery using basic cluster on endpoint {}",
+                    node.getIeeeAddress(), basicCluster.getZigBeeAddress());
+
+            // Attempt to read all properties with a single command.
+            // If successful, this updates the cache with the property values.
             Map<String, Integer> propertiesToRead = getPropertiesToRead(basicCluster);
             List<Integer> attributes = new ArrayList<>(propertiesToRead.values());
-            if (!attributes.isEmpty()) {
-                basicCluster.readAttributes(attributes).get();
+            if (!attributes.isEmpty() && !waitForResponse(node, basicCluster.readAttributes(attributes), deadline)) {
+                logger.info("{}: There was an error when trying to read all properties with a single command.",
+                        node.getIeeeAddress());
             }
-        } catch (InterruptedException | ExecutionException e) {
-            logger.info("{}: There was an error when trying to read all properties with a single command.",
-                    node.getIeeeAddress(), e);
-        }
-
-        // Now, get each single property via the basic cluster. If the above multi-attribute read was successful,
-        // this will get each property from the cache. Otherwise, it will try to get the property from the device again.
 
-        if (alwaysUpdate || properties.get(Thing.PROPERTY_VENDOR) == null) {
-            String manufacturer = basicCluster.getManufacturerName(Long.MAX_VALUE);
-            if (manufacturer != null) {
-                properties.put(Thing.PROPERTY_VENDOR, manufacturer.trim());
-            } else {
-                logger.debug("{}: Manufacturer request failed", node.getIeeeAddress());
+            // Now request each single property that is still unknown. If the above multi-attribute read was
+            // successful, all properties will be in the cache. Otherwise, each remaining property is requested from
+            // the device concurrently.
+            List<Future<CommandResult>> futures = new ArrayList<>();
+            for (Map.Entry<String, Integer> entry : BASIC_CLUSTER_ATTRIBUTES_FOR_THING_PROPERTY.entrySet()) {
+                if (alwaysUpdate || properties.get(entry.getKey()) == null) {
+                    basicProperties.put(entry.getKey(), entry.getValue());
+                    Future<CommandResult> future = readAttribute(basicCluster, entry.getValue());
+                    if (future != null) {
+                        futures.add(future);
+                    }
+                }
             }
-        }
-
-        if (alwaysUpdate || properties.get(Thing.PROPERTY_MODEL_ID) == null) {
-            String model = basicCluster.getModelIdentifier(Long.MAX_VALUE);
-            if (model != null) {
-                properties.put(Thing.PROPERTY_MODEL_ID, model.trim());
-            } else {
-                logger.debug("{}: Model request failed", node.getIeeeAddress());
+            for (Future<CommandResult> future : futures) {
+                waitForResponse(node, future, deadline);
             }
+        } else {
+            logger.debug("{}: Node doesn't support basic cluster", node.getIeeeAddress());
         }
 
-        if (alwaysUpdate || properties.get(Thing.PROPERTY_HARDWARE_VERSION) == null) {
-            Integer hwVersion = basicCluster.getHwVersion(Long.MAX_VALUE);
-            if (hwVersion != null) {
-                properties.put(Thing.PROPERTY_HARDWARE_VERSION, hwVersion.toString());
-            } else {
-                logger.debug("{}: Hardware version failed", node.getIeeeAddress());
-            }
+        if (otaFuture != null) {
+            waitForResponse(node, otaFuture, deadline);
         }
 
-        if (alwaysUpdate || properties.get(ZigBeeBindingConstants.THING_PROPERTY_APPLICATIONVERSION) == null) {
-            Integer appVersion = basicCluster.getApplicationVersion(Long.MAX_VALUE);
-            if (appVersion != null) {
-                properties.put(ZigBeeBindingConstants.THING_PROPERTY_APPLICATIONVERSION, appVersion.toString());
-            } else {
-                logger.debug("{}: Application version failed", node.getIeeeAddress());
+        boolean complete = true;
+        for (Map.Entry<String, Integer> entry : basicProperties.entrySet()) {
+            Object value = basicCluster.getAttribute(entry.getValue()).getLastValue();
+            if (value == null) {
+                logger.debug("{}: Property {} request failed", node.getIeeeAddress(), entry.getKey());
+                complete = false;
+                continue;
             }
-        }
-
-        if (alwaysUpdate || properties.get(ZigBeeBindingConstants.THING_PROPERTY_STKVERSION) == null) {
-            Integer stkVersion = basicCluster.getStackVersion(Long.MAX_VALUE);
-            if (stkVersion != null) {
-                properties.put(ZigBeeBindingConstants.THING_PROPERTY_STKVERSION, stkVersion.toString());
+            if (Thing.PROPERTY_VENDOR.equals(entry.getKey()) || Thing.PROPERTY_MODEL_ID.equals(entry.getKey())) {
+                properties.put(entry.getKey(), value.toString().trim());
             } else {
-                logger.debug("{}: Stack version failed", node.getIeeeAddress());
+                properties.put(entry.getKey(), value.toString());
             }
         }
 
-        if (alwaysUpdate || properties.get(ZigBeeBindingConstants.THING_PROPERTY_ZCLVERSION) == null) {
-            Integer zclVersion = basicCluster.getZclVersion(Long.MAX_VALUE);
-            if (zclVersion != null) {
-                properties.put(ZigBeeBindingConstants.THING_PROPERTY_ZCLVERSION, zclVersion.toString());
+        if (otaCluster != null) {
+            Object fileVersion = otaCluster.getAttribute(ZclOtaUpgradeCluster.ATTR_CURRENTFILEVERSION).getLastValue();
+            if (fileVersion != null) {
+                properties.put(PROPERTY_FIRMWARE_VERSION, String.format("0x%08X", fileVersion));
             } else {
-                logger.debug("{}: ZCL version failed", node.getIeeeAddress());
+                logger.debug("{}: Could not get OTA firmware version from device", node.getIeeeAddress());
+                complete = false;
             }
         }
 
-        if (alwaysUpdate || properties.get(ZigBeeBindingConstants.THING_PROPERTY_DATECODE) == null) {
-            String dateCode = basicCluster.getDateCode(Long.MAX_VALUE);
-            if (dateCode != null) {
-                properties.put(ZigBeeBindingConstants.THING_PROPERTY_DATECODE, dateCode);
-            } else {
-                logger.debug("{}: Date code failed", node.getIeeeAddress());
-            }
+        return complete;
+    }
+
+    /**
+     * Requests an attribute from the device if its value is not already known
+     *
+     * @param cluster the {@link ZclCluster}
+     * @param attributeId the attribute to read
+     * @return the {@link Future} for the request, or null if the value is already known
+     */
+    private @Nullable Future<CommandResult> readAttribute(ZclCluster cluster, int attributeId) {
+        ZclAttribute attribute = cluster.getAttribute(attributeId);
+        if (attribute == null || attribute.isLastValueCurrent(Long.MAX_VALUE)) {
+            return null;
         }
+        return cluster.readAttributes(Collections.singletonList(attributeId));
+    }
 
+    private boolean waitForResponse(ZigBeeNode node, @Nullable Future<CommandResult> future, long deadline) {
+        if (future == null) {
+            return false;
+        }
+        try {
+            CommandResult result = future.get(Math.max(0, deadline - System.currentTimeMillis()),
+                    TimeUnit.MILLISECONDS);
+            return result != null && result.isSuccess();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.debug("{}: Error reading ZigBee node properties", node.getIeeeAddress(), e);
+        } catch (TimeoutException e) {
+            logger.debug("{}: Timeout reading ZigBee node properties", node.getIeeeAddress());
+        }
+        return false;
     }
 
     private Map<String, Integer> getPropertiesToRead(ZclBasicCluster basicCluster) {
@@ -242,25 +327,4 @@ public class ZigBeeNodePropertyDiscoverer {
         return result;
     }
 
-    private void addPropertiesFromOtaCluster(ZigBeeNode node) {
-        Optional<ZclCluster> cluster = node.getEndpoints().stream()
-                .map(ep -> ep.getOutputCluster(ZclOtaUpgradeCluster.CLUSTER_ID)).filter(Objects::nonNull).findFirst();
-        ZclOtaUpgradeCluster otaCluster = (ZclOtaUpgradeCluster) cluster.orElse(null);
-
-        if (otaCluster != null) {
-            logger.debug("{}: ZigBee node property discovery using OTA cluster on endpoint {}", node.getIeeeAddress(),
-                    otaCluster.getZigBeeAddress());
-
-            ZclAttribute attribute = otaCluster.getAttribute(ZclOtaUpgradeCluster.ATTR_CURRENTFILEVERSION);
-            Object fileVersion = attribute.readValue(Long.MAX_VALUE);
-            if (fileVersion != null) {
-                properties.put(PROPERTY_FIRMWARE_VERSION, String.format("0x%08X", fileVersion));
-            } else {
-                logger.debug("{}: Could not get OTA firmware version from device", node.getIeeeAddress());
-            }
-        } else {
-            logger.debug("{}: Node doesn't support OTA cluster", node.getIeeeAddress());
-        }
-    }
-
 }
@@ -23,6 +23,7 @@ import org.openhab.core.thing.ThingUID;
 import org.openhab.binding.zigbee.discovery.ZigBeeDiscoveryParticipant;
 import org.openhab.binding.zigbee.internal.ZigBeeThingTypeMatcher;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
 
 import com.zsmartsystems.zigbee.ZigBeeNode;
 
@@ -35,7 +36,16 @@ import com.zsmartsystems.zigbee.ZigBeeNode;
 @Component(immediate = true)
 public class ZigBeeDefaultDiscoveryParticipant implements ZigBeeDiscoveryParticipant {
 
-    private final ZigBeeThingTypeMatcher matcher = new ZigBeeThingTypeMatcher();
+    private ZigBeeThingTypeMatcher matcher;
+
+    @Reference
+    protected void setZigBeeThingTypeMatcher(ZigBeeThingTypeMatcher matcher) {
+        this.matcher = matcher;
+    }
+
+    protected void unsetZigBeeThingTypeMatcher(ZigBeeThingTypeMatcher matcher) {
+        this.matcher = null;
+    }
 
     @Override
     public Set<ThingTypeUID> getSupportedThingTypeUIDs() {
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zigbee.handler;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.types.Command;
+import org.openhab.core.types.RefreshType;
+import org.openhab.core.types.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serialises the commands sent to a single channel.
+ * <p>
+ * Commands are processed in the order they are received, and the next command is only processed once the previous
+ * command has completed. If a command is waiting to be processed when a new command of the same type is received, the
+ * waiting command is superseded by the new command since there is no point in sending an intermediate value to the
+ * device. This reduces the number of frames sent when a user moves a slider, while ensuring the final value is always
+ * sent and that values are not received by the device out of order.
+ * <p>
+ * Only absolute commands (ie commands that are also a {@link State}) and {@link RefreshType#REFRESH} are superseded.
+ * Relative commands such as INCREASE are always sent.
+ *
+ * @author Chris Jackson - Initial contribution
+ */
+@NonNullByDefault
+class ZigBeeChannelCommandMailbox {
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeChannelCommandMailbox.class);
+
+    private final ChannelUID channelUID;
+    private final Function<Command, @Nullable CompletionStage<?>> processor;
+
+    private final Deque<Command> queue = new ArrayDeque<>();
+    private boolean busy = false;
+
+    /**
+     * Creates the mailbox
+     *
+     * @param channelUID the {@link ChannelUID} used for logging
+     * @param processor the function that processes a command. The returned {@link CompletionStage} must complete once
+     *            the command has completed - if null is returned the command is considered complete
+     */
+    ZigBeeChannelCommandMailbox(ChannelUID channelUID, Function<Command, @Nullable CompletionStage<?>> processor) {
+        this.channelUID = channelUID;
+        this.processor = processor;
+    }
+
+    /**
+     * Adds a command to the mailbox
+     *
+     * @param command the {@link Command} to process
+     * @param executor the {@link Executor} used to process the commands
+     */
+    void submit(Command command, Executor executor) {
+        synchronized (queue) {
+            Command waiting = queue.peekLast();
+            if (waiting != null && isSupersededBy(waiting, command)) {
+                queue.pollLast();
+                logger.debug("{}: Command {} superseded by {}", channelUID, waiting, command);
+            }
+            queue.addLast(command);
+
+            if (busy) {
+                return;
+            }
+            busy = true;
+        }
+
+        execute(executor);
+    }
+
+    /**
+     * Gets the number of commands waiting to be processed
+     *
+     * @return the number of commands waiting to be processed
+     */
+    int getQueueLength() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    private boolean isSupersededBy(Command waiting, Command command) {
+        if (waiting.getClass() != command.getClass()) {
+            return false;
+        }
+        return command instanceof State || command == RefreshType.REFRESH;
+    }
+
+    private void execute(Executor executor) {
+        try {
+            executor.execute(() -> processNext(executor));
+        } catch (RejectedExecutionException e) {
+            logger.debug("{}: Command processing rejected", channelUID);
+            synchronized (queue) {
+                queue.clear();
+                busy = false;
+            }
+        }
+    }
+
+    private void processNext(Executor executor) {
+        Command command;
+        synchronized (queue) {
+            command = queue.pollFirst();
+            if (command == null) {
+                busy = false;
+                return;
+            }
+        }
+
+        CompletionStage<?> completion;
+        try {
+            completion = processor.apply(command);
+        } catch (Exception e) {
+            logger.debug("{}: Exception sending command {}", channelUID, command, e);
+            completion = null;
+        }
+
+        if (completion == null) {
+            completion = CompletableFuture.completedFuture(null);
+        }
+        completion.whenComplete((result, exception) -> execute(executor));
+    }
+}
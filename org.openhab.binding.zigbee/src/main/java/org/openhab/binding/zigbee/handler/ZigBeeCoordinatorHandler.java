@@ -24,7 +24,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -34,7 +37,9 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.zigbee.ZigBeeBindingConstants;
 import org.openhab.binding.zigbee.converter.ZigBeeChannelConverterFactory;
+import org.openhab.binding.zigbee.discovery.ZigBeeNodePropertyCache;
 import org.openhab.binding.zigbee.internal.ZigBeeDataStore;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.common.registry.Identifiable;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.thing.Bridge;
@@ -49,17 +54,20 @@ import org.openhab.core.types.Command;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ExtendedPanId;
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeAnnounceListener;
 import com.zsmartsystems.zigbee.ZigBeeChannel;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
+import com.zsmartsystems.zigbee.ZigBeeGroupAddress;
 import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
 import com.zsmartsystems.zigbee.ZigBeeNetworkNodeListener;
 import com.zsmartsystems.zigbee.ZigBeeNetworkState;
 import com.zsmartsystems.zigbee.ZigBeeNetworkStateListener;
 import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.ZigBeeNodeStatus;
 import com.zsmartsystems.zigbee.ZigBeeProfileType;
 import com.zsmartsystems.zigbee.ZigBeeStatus;
 import com.zsmartsystems.zigbee.app.discovery.ZigBeeDiscoveryExtension;
@@ -76,6 +84,7 @@ import com.zsmartsystems.zigbee.transport.TransportConfigOption;
 import com.zsmartsystems.zigbee.transport.TrustCentreJoinMode;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportFirmwareUpdate;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportTransmit;
+import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.ZclBasicCluster;
 import com.zsmartsystems.zigbee.zcl.clusters.ZclOtaUpgradeCluster;
 import com.zsmartsystems.zigbee.zdo.field.NeighborTable;
@@ -94,8 +103,8 @@ import com.zsmartsystems.zigbee.zdo.field.RoutingTable;
  * @author Chris Jackson - Initial contribution
  */
 @NonNullByDefault
-public abstract class ZigBeeCoordinatorHandler extends BaseBridgeHandler
-        implements Identifiable<ThingUID>, ZigBeeNetworkStateListener, ZigBeeNetworkNodeListener {
+public abstract class ZigBeeCoordinatorHandler extends BaseBridgeHandler implements Identifiable<ThingUID>,
+        ZigBeeNetworkStateListener, ZigBeeNetworkNodeListener, ZigBeeAnnounceListener {
     private final Logger logger = LoggerFactory.getLogger(ZigBeeCoordinatorHandler.class);
 
     @Nullable
@@ -133,6 +142,7 @@ public abstract class ZigBeeCoordinatorHandler extends BaseBridgeHandler
     private final Set<ZigBeeAnnounceListener> announceListeners = new HashSet<>();
 
     private final int MESH_UPDATE_PERIOD = 86400;
+    private final int INITIALISE_CONCURRENCY = 4;
 
     /**
      * Set to true on startup if we want to reinitialize the network
@@ -151,7 +161,46 @@ public abstract class ZigBeeCoordinatorHandler extends BaseBridgeHandler
     private final Object reconnectLock = new Object();
     private boolean currentReconnectAttemptFinished = false;
 
-    private Map<ThingUID, ZigBeeThingHandler> children = new HashMap<>();
+    private final Map<ThingUID, ZigBeeThingHandler> children = new ConcurrentHashMap<>();
+
+    /**
+     * Index of the child things by the {@link IeeeAddress} of the node they represent
+     */
+    private final Map<IeeeAddress, ThingUID> childAddresses = new ConcurrentHashMap<>();
+
+    /**
+     * Scheduler used to limit the number of child things that are initialised concurrently
+     */
+    @Nullable
+    private ZigBeeThingInitialisationScheduler initialisationScheduler;
+
+    /**
+     * If true, converters read the reporting configuration from the device before configuring reporting. Disabled by
+     * default since it adds a request for each reported attribute that has no recorded configuration.
+     */
+    private boolean reportingReconciliation = false;
+
+    /**
+     * Time (in seconds) that a device has to confirm a command after the channel state has been updated optimistically.
+     * If 0, the channel state is only updated once the device responds.
+     */
+    private int optimisticWindow = 0;
+
+    /**
+     * Locks used to ensure that only one converter at a time configures each device
+     */
+    private final Map<IeeeAddress, Object> deviceConfigurationLocks = new ConcurrentHashMap<>();
+
+    /**
+     * Properties read from each device, shared between discovery and the thing handlers
+     */
+    private final ZigBeeNodePropertyCache nodePropertyCache = new ZigBeeNodePropertyCache();
+
+    /**
+     * Executor used to process commands to child things on virtual threads. Null if virtual threads are not enabled.
+     */
+    @Nullable
+    private ExecutorService commandExecutor;
 
     /**
      * The factory to create the converters for the different channels.
@@ -324,6 +373,29 @@ public abstract class ZigBeeCoordinatorHandler extends BaseBridgeHandler
         initializeDongle();
 
         reconnectPollingScheduler = Executors.newSingleThreadScheduledExecutor();
+
+        int initialiseConcurrency = INITIALISE_CONCURRENCY;
+        if (getConfig().get(CONFIGURATION_INITIALISECONCURRENCY) != null) {
+            logger.debug("Initialise Concurrency {}", getConfig().get(CONFIGURATION_INITIALISECONCURRENCY));
+            initialiseConcurrency = ((BigDecimal) getConfig().get(CONFIGURATION_INITIALISECONCURRENCY)).intValue();
+        }
+        initialisationScheduler = new ZigBeeThingInitialisationScheduler(thing.getUID().toString(),
+                initialiseConcurrency);
+
+        if (getConfig().get(CONFIGURATION_REPORTINGRECONCILE) != null) {
+            logger.debug("Reporting Reconciliation {}", getConfig().get(CONFIGURATION_REPORTINGRECONCILE));
+            reportingReconciliation = (Boolean) getConfig().get(CONFIGURATION_REPORTINGRECONCILE);
+        }
+
+        if (getConfig().get(CONFIGURATION_VIRTUALTHREADS) != null) {
+            logger.debug("Virtual Threads {}", getConfig().get(CONFIGURATION_VIRTUALTHREADS));
+            setVirtualThreads((Boolean) getConfig().get(CONFIGURATION_VIRTUALTHREADS));
+        }
+
+        if (getConfig().get(CONFIGURATION_OPTIMISTICWINDOW) != null) {
+            logger.debug("Optimistic State Window {}", getConfig().get(CONFIGURATION_OPTIMISTICWINDOW));
+            optimisticWindow = ((BigDecimal) getConfig().get(CONFIGURATION_OPTIMISTICWINDOW)).intValue();
+        }
     }
 
     @Override
@@ -350,6 +422,13 @@ public abstract class ZigBeeCoordinatorHandler extends BaseBridgeHandler
             reconnectPollingTimer.cancel(true);
         }
 
+        if (initialisationScheduler != null) {
+            initialisationScheduler.shutdown();
+            initialisationScheduler = null;
+        }
+
+        setVirtualThreads(false);
+
         if (networkManager != null) {
             synchronized (nodeListeners) {
                 for (ZigBeeNetworkNodeListener listener : nodeListeners) {
@@ -429,6 +508,7 @@ public abstract class ZigBeeCoordinatorHandler extends BaseBridgeHandler
         networkManager.setSerializer(serializerClass, deserializerClass);
         networkManager.addNetworkStateListener(this);
         networkManager.addNetworkNodeListener(this);
+        networkManager.addAnnounceListener(this);
 
         // Initialise the network
         ZigBeeStatus initializeResponse = networkManager.initialize();
@@ -681,6 +761,25 @@ public abstract class ZigBeeCoordinatorHandler extends BaseBridgeHandler
                     }
                     break;
 
+                case ZigBeeBindingConstants.CONFIGURATION_INITIALISECONCURRENCY:
+                    if (initialisationScheduler != null) {
+                        initialisationScheduler
+                                .setConcurrency(((BigDecimal) configurationParameter.getValue()).intValue());
+                    }
+                    break;
+
+                case ZigBeeBindingConstants.CONFIGURATION_REPORTINGRECONCILE:
+                    reportingReconciliation = (Boolean) configurationParameter.getValue();
+                    break;
+
+                case ZigBeeBindingConstants.CONFIGURATION_VIRTUALTHREADS:
+                    setVirtualThreads((Boolean) configurationParameter.getValue());
+                    break;
+
+                case ZigBeeBindingConstants.CONFIGURATION_OPTIMISTICWINDOW:
+                    optimisticWindow = ((BigDecimal) configurationParameter.getValue()).intValue();
+                    break;
+
                 case ZigBeeBindingConstants.THING_PROPERTY_INSTALLCODE:
                     addInstallCode((String) configurationParameter.getValue());
                     // Don't save this - it's a transient key
@@ -814,6 +913,38 @@ public abstract class ZigBeeCoordinatorHandler extends BaseBridgeHandler
     public void nodeAdded(@Nullable ZigBeeNode node) {
     }
 
+    @Override
+    public void nodeRemoved(@Nullable ZigBeeNode node) {
+        if (node != null) {
+            nodePropertyCache.invalidate(node.getIeeeAddress());
+            deviceConfigurationLocks.remove(node.getIeeeAddress());
+        }
+    }
+
+    @Override
+    public void deviceStatusUpdate(@Nullable ZigBeeNodeStatus deviceStatus, @Nullable Integer networkAddress,
+            @Nullable IeeeAddress ieeeAddress) {
+        if (ieeeAddress == null) {
+            return;
+        }
+
+        // The device may have been reset or updated, so its properties need to be read again
+        nodePropertyCache.invalidate(ieeeAddress);
+
+        // A device that joins without the network key has been reset, so it no longer holds the bind and reporting
+        // configuration we previously applied. A secured rejoin retains the device configuration.
+        if (deviceStatus == ZigBeeNodeStatus.UNSECURED_JOIN || deviceStatus == ZigBeeNodeStatus.UNSECURED_REJOIN) {
+            logger.debug("{}: Device joined with status {} - clearing device configuration records", ieeeAddress,
+                    deviceStatus);
+            clearDeviceConfiguration(ieeeAddress);
+
+            ZigBeeThingHandler child = getChildHandler(ieeeAddress);
+            if (child != null) {
+                child.deviceReset();
+            }
+        }
+    }
+
     @Override
     public void nodeUpdated(@Nullable ZigBeeNode node) {
         // We're only interested in the coordinator here.
@@ -1044,6 +1175,141 @@ public abstract class ZigBeeCoordinatorHandler extends BaseBridgeHandler
         networkDataStore.removeNode(nodeIeeeAddress);
     }
 
+    /**
+     * Gets a record of configuration that has previously been applied to a device. This allows converters to avoid
+     * resending bind and reporting configuration that the device already holds.
+     *
+     * @param nodeIeeeAddress the {@link IeeeAddress} of the node
+     * @param key the key of the configuration record
+     * @return the recorded value, or null if no configuration is recorded
+     */
+    public @Nullable String getDeviceConfiguration(IeeeAddress nodeIeeeAddress, String key) {
+        ZigBeeDataStore dataStore = networkDataStore;
+        if (dataStore == null) {
+            return null;
+        }
+        return dataStore.readDeviceConfiguration(nodeIeeeAddress, key);
+    }
+
+    /**
+     * Gets the lock used when configuring a device. The discovery service and the thing handler may both configure a
+     * device, so this is used to ensure that the device configuration records are checked and updated atomically.
+     *
+     * @param nodeIeeeAddress the {@link IeeeAddress} of the node
+     * @return the lock object for the device
+     */
+    public Object getDeviceConfigurationLock(IeeeAddress nodeIeeeAddress) {
+        return deviceConfigurationLocks.computeIfAbsent(nodeIeeeAddress, address -> new Object());
+    }
+
+    /**
+     * Records configuration that has been successfully applied to a device
+     *
+     * @param nodeIeeeAddress the {@link IeeeAddress} of the node
+     * @param key the key of the configuration record
+     * @param value the value that was applied
+     */
+    public void setDeviceConfiguration(IeeeAddress nodeIeeeAddress, String key, String value) {
+        ZigBeeDataStore dataStore = networkDataStore;
+        if (dataStore != null) {
+            dataStore.writeDeviceConfiguration(nodeIeeeAddress, key, value);
+        }
+    }
+
+    /**
+     * Gets the cache of properties read from devices on this network. The properties for a device are invalidated when
+     * the device announces itself or is removed from the network.
+     *
+     * @return the {@link ZigBeeNodePropertyCache}
+     */
+    public ZigBeeNodePropertyCache getNodePropertyCache() {
+        return nodePropertyCache;
+    }
+
+    /**
+     * Checks if reporting reconciliation is enabled. If enabled, converters read the current reporting configuration
+     * from the device and only send Configure Reporting if the configuration differs.
+     *
+     * @return true if reporting reconciliation is enabled
+     */
+    public boolean isReportingReconciliationEnabled() {
+        return reportingReconciliation;
+    }
+
+    /**
+     * Gets the time that a device has to confirm a command after the channel state has been updated optimistically. If
+     * this is greater than 0, converters update the channel state as soon as a command is sent, and roll the state back
+     * if the device does not confirm the command within this time.
+     *
+     * @return the optimistic state window in seconds, or 0 if optimistic state updates are disabled
+     */
+    public int getOptimisticStateWindow() {
+        return optimisticWindow;
+    }
+
+    /**
+     * Gets the executor used to process commands to child things. Commands processed by this executor each run on
+     * their own virtual thread so that converters that block waiting for a device do not exhaust a shared pool.
+     *
+     * @return the {@link ExecutorService} or null if the thing handler should use its default executor
+     */
+    public @Nullable ExecutorService getCommandExecutor() {
+        return commandExecutor;
+    }
+
+    /**
+     * Gets the timer service shared by all converters in the binding. This should be used for transition and other
+     * short lived timers so that the number of threads does not depend on the number of devices.
+     *
+     * @return the shared {@link ScheduledExecutorService}
+     */
+    public ScheduledExecutorService getTimerService() {
+        return ThreadPoolManager.getScheduledPool(TIMER_POOL);
+    }
+
+    private synchronized void setVirtualThreads(boolean enabled) {
+        ExecutorService executor = commandExecutor;
+        if (enabled == (executor != null)) {
+            return;
+        }
+        if (enabled) {
+            commandExecutor = Executors
+                    .newThreadPerTaskExecutor(Thread.ofVirtual().name("zigbee-thinghandler-commands-", 0).factory());
+        } else {
+            commandExecutor = null;
+            // Allow any commands in progress to complete
+            executor.shutdown();
+        }
+        logger.debug("ZigBee coordinator {} virtual thread commands {}", getThing().getUID(),
+                enabled ? "enabled" : "disabled");
+    }
+
+    /**
+     * Clears all configuration records for a device so that the next device initialisation sends the full
+     * configuration
+     *
+     * @param nodeIeeeAddress the {@link IeeeAddress} of the node
+     */
+    public void clearDeviceConfiguration(IeeeAddress nodeIeeeAddress) {
+        ZigBeeDataStore dataStore = networkDataStore;
+        if (dataStore != null) {
+            dataStore.removeDeviceConfiguration(nodeIeeeAddress);
+        }
+    }
+
+    /**
+     * Clears a single configuration record for a device so that the configuration is sent again if it is reapplied
+     *
+     * @param nodeIeeeAddress the {@link IeeeAddress} of the node
+     * @param key the key of the configuration record
+     */
+    public void clearDeviceConfiguration(IeeeAddress nodeIeeeAddress, String key) {
+        ZigBeeDataStore dataStore = networkDataStore;
+        if (dataStore != null) {
+            dataStore.removeDeviceConfiguration(nodeIeeeAddress, key);
+        }
+    }
+
     /**
      * Permit joining only for the specified node
      *
@@ -1151,19 +1417,136 @@ public abstract class ZigBeeCoordinatorHandler extends BaseBridgeHandler
 
     @Override
     public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (!(childHandler instanceof ZigBeeThingHandler)) {
+            return;
+        }
         children.put(childThing.getUID(), (ZigBeeThingHandler) childHandler);
+
+        IeeeAddress address = getChildAddress(childThing);
+        if (address != null) {
+            childAddresses.put(address, childThing.getUID());
+        }
         logger.debug("ZigBee coordinator {} child added {}. Total {} children.", getThing().getUID(),
                 childThing.getUID(), children.size());
-
     }
 
     @Override
     public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
         children.remove(childThing.getUID());
+        // The address may have been changed in the configuration, so remove the child from the index by its UID
+        childAddresses.values().removeIf(childThing.getUID()::equals);
         logger.debug("ZigBee coordinator {} child removed {}. Total {} children.", getThing().getUID(),
                 childThing.getUID(), children.size());
     }
 
+    private @Nullable IeeeAddress getChildAddress(Thing childThing) {
+        Object address = childThing.getConfiguration().get(ZigBeeBindingConstants.CONFIGURATION_MACADDRESS);
+        if (!(address instanceof String) || ((String) address).isEmpty()) {
+            return null;
+        }
+        try {
+            return new IeeeAddress((String) address);
+        } catch (IllegalArgumentException e) {
+            logger.debug("ZigBee coordinator {} child {} has invalid address {}", getThing().getUID(),
+                    childThing.getUID(), address);
+            return null;
+        }
+    }
+
+    /**
+     * Gets the {@link ThingUID} of the child thing for a node
+     *
+     * @param address the {@link IeeeAddress} of the node
+     * @return the {@link ThingUID} of the child, or null if there is no initialised child thing for the node
+     */
+    public @Nullable ThingUID getChildThingUID(IeeeAddress address) {
+        return childAddresses.get(address);
+    }
+
+    /**
+     * Gets the addresses of all things configured as children of this coordinator. Unlike
+     * {@link #getChildThingUID(IeeeAddress)}, this includes things whose handler has not been initialised.
+     *
+     * @return the {@link Set} of child {@link IeeeAddress}es
+     */
+    public Set<IeeeAddress> getChildThingAddresses() {
+        Set<IeeeAddress> addresses = new HashSet<>();
+        for (Thing childThing : getThing().getThings()) {
+            IeeeAddress address = getChildAddress(childThing);
+            if (address != null) {
+                addresses.add(address);
+            }
+        }
+        return addresses;
+    }
+
+    /**
+     * Schedules the initialisation of a child thing. Initialisations are queued so that only a limited number of
+     * things are initialised concurrently, with mains powered routers being initialised before other devices.
+     *
+     * <p>
+     * If an initialisation is already queued for the child by a different handler - eg the thing has been disposed
+     * and recreated - the queued initialisation is replaced.
+     *
+     * @param address the {@link IeeeAddress} of the child
+     * @param handler the {@link ZigBeeThingHandler} requesting the initialisation
+     * @param initialisation the {@link Runnable} that performs the initialisation
+     */
+    public void scheduleChildInitialisation(IeeeAddress address, ZigBeeThingHandler handler, Runnable initialisation) {
+        ZigBeeThingInitialisationScheduler localScheduler = initialisationScheduler;
+        if (localScheduler == null) {
+            logger.debug("{}: ZigBee coordinator {} initialisation scheduler not available", address,
+                    getThing().getUID());
+            scheduler.execute(initialisation);
+            return;
+        }
+        localScheduler.schedule(address, handler, getNode(address), initialisation);
+    }
+
+    /**
+     * Cancels the initialisation of a child thing if it is still waiting to be run. This is called when the handler is
+     * disposed so that the initialisation of a disposed handler is not run.
+     *
+     * @param address the {@link IeeeAddress} of the child
+     * @param handler the {@link ZigBeeThingHandler} that requested the initialisation
+     */
+    public void cancelChildInitialisation(IeeeAddress address, ZigBeeThingHandler handler) {
+        ZigBeeThingInitialisationScheduler localScheduler = initialisationScheduler;
+        if (localScheduler != null) {
+            localScheduler.cancel(address, handler);
+        }
+    }
+
+    /**
+     * Gets the thing handler for the child defined with the {@link IeeeAddress}
+     *
+     * @param address the {@link IeeeAddress}
+     * @return the {@link ZigBeeThingHandler} or null if the child is not known
+     */
+    public @Nullable ZigBeeThingHandler getChildHandler(IeeeAddress address) {
+        ThingUID childUID = childAddresses.get(address);
+        if (childUID == null) {
+            return null;
+        }
+        return children.get(childUID);
+    }
+
+    /**
+     * Sends a ZCL command to all devices in a group. The command is sent as a single multicast frame.
+     *
+     * @param groupId the group ID
+     * @param command the {@link ZclCommand} to send
+     * @return the {@link Future} for the {@link CommandResult}, or null if the network is not available
+     */
+    public @Nullable Future<CommandResult> sendGroupCommand(int groupId, ZclCommand command) {
+        ZigBeeNetworkManager localNetworkManager = networkManager;
+        if (localNetworkManager == null) {
+            return null;
+        }
+        command.setDestinationAddress(new ZigBeeGroupAddress(groupId));
+        return localNetworkManager.sendTransaction(command);
+    }
+
     /**
      * Check if the child defined with the {@link IeeeAddress} has completed initialisation
      *
@@ -1172,12 +1555,11 @@ public abstract class ZigBeeCoordinatorHandler extends BaseBridgeHandler
      */
     public boolean isChildInitialized(IeeeAddress address) {
         logger.debug("{}: ZigBee coordinator {} check if child is initialised", address, getThing().getUID());
-        for (ZigBeeThingHandler child : children.values()) {
-            if (child.getIeeeAddress().equals(address)) {
-                logger.debug("{}: ZigBee coordinator {} check if child is initialised - found {}", address,
-                        getThing().getUID(), child.isDeviceInitialized());
-                return child.isDeviceInitialized();
-            }
+        ZigBeeThingHandler child = getChildHandler(address);
+        if (child != null) {
+            logger.debug("{}: ZigBee coordinator {} check if child is initialised - found {}", address,
+                    getThing().getUID(), child.isDeviceInitialized());
+            return child.isDeviceInitialized();
         }
 
         logger.debug("{}: ZigBee coordinator {} check if child is initialised - not found", address,
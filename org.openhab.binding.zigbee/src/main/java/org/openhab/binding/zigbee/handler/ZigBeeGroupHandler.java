@@ -0,0 +1,498 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zigbee.handler;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.zigbee.ZigBeeBindingConstants;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.thing.Bridge;
+import org.openhab.core.thing.Channel;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingStatusDetail;
+import org.openhab.core.thing.ThingStatusInfo;
+import org.openhab.core.thing.binding.BaseThingHandler;
+import org.openhab.core.thing.type.ChannelTypeUID;
+import org.openhab.core.types.Command;
+import org.openhab.core.types.RefreshType;
+import org.openhab.core.types.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.CommandResult;
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeEndpoint;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclColorControlCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclGroupsCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclLevelControlCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclOnOffCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.colorcontrol.MoveToHueAndSaturationCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.groups.AddGroupCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.groups.RemoveGroupCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.levelcontrol.MoveToLevelWithOnOffCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OffCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OnCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.scenes.RecallSceneCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.scenes.StoreSceneCommand;
+
+/**
+ * Thing handler for a ZigBee group.
+ * <p>
+ * A group allows a single multicast command to be sent to a number of devices rather than sending a unicast command to
+ * each device. This reduces the traffic on the network, and ensures that all devices in the group respond at the same
+ * time. The handler adds the group to each member device when it is initialised, and removes it from members that are
+ * removed from the group or when the group itself is removed. Since multicast commands are not acknowledged by the
+ * devices, the state of the members is updated optimistically when a command is sent. Devices that are configured to
+ * report their state will subsequently correct this if required.
+ * <p>
+ * Scenes can be stored in, and recalled from, all devices in the group. The scene is stored in each device with the
+ * current state of the device, so recalling a scene across many devices only requires a single frame.
+ *
+ * @author Chris Jackson - Initial contribution
+ */
+@NonNullByDefault
+public class ZigBeeGroupHandler extends BaseThingHandler {
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeGroupHandler.class);
+
+    /**
+     * Valid group IDs are 0x0001 to 0xFFF7 - the remaining values are reserved
+     */
+    private static final int GROUP_ID_MIN = 0x0001;
+    private static final int GROUP_ID_MAX = 0xFFF7;
+
+    /**
+     * Transition time (in 1/10 seconds) used for level and color commands
+     */
+    private static final int TRANSITION_TIME = 10;
+
+    /**
+     * Valid scene IDs
+     */
+    private static final int SCENE_ID_MIN = 0x00;
+    private static final int SCENE_ID_MAX = 0xFF;
+
+    /**
+     * Recall scene transition time indicating the transition time stored with the scene should be used
+     */
+    private static final int SCENE_TRANSITION_TIME_STORED = 0xFFFF;
+
+    /**
+     * Maximum time (in seconds) to wait for all members to respond when updating the group membership
+     */
+    private static final int GROUP_COMMAND_TIMEOUT = 30;
+
+    /**
+     * Device configuration record type used to remember that a member has been added to the group
+     */
+    private static final String DEVICE_CONFIGURATION_GROUP = "group";
+
+    private @Nullable ZigBeeCoordinatorHandler coordinatorHandler;
+
+    private int groupId;
+
+    /**
+     * The group members. This is read when sending commands while the configuration may be updated, so a copy on write
+     * set is used which also retains the order of the members.
+     */
+    private final Set<IeeeAddress> members = new CopyOnWriteArraySet<>();
+
+    public ZigBeeGroupHandler(Thing thing) {
+        super(thing);
+    }
+
+    @Override
+    public void initialize() {
+        Object configGroupId = getConfig().get(ZigBeeBindingConstants.CONFIGURATION_GROUPID);
+        if (!(configGroupId instanceof BigDecimal)) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
+                    ZigBeeBindingConstants.OFFLINE_NO_GROUP);
+            return;
+        }
+        groupId = ((BigDecimal) configGroupId).intValue();
+        if (groupId < GROUP_ID_MIN || groupId > GROUP_ID_MAX) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
+                    ZigBeeBindingConstants.OFFLINE_NO_GROUP);
+            return;
+        }
+
+        members.clear();
+        members.addAll(parseMembers((String) getConfig().get(ZigBeeBindingConstants.CONFIGURATION_GROUPMEMBERS)));
+        logger.debug("ZigBee group {} initialising with {} members", String.format("%04X", groupId), members.size());
+
+        updateStatus(ThingStatus.UNKNOWN);
+
+        Bridge bridge = getBridge();
+        if (bridge != null) {
+            bridgeStatusChanged(bridge.getStatusInfo());
+        }
+    }
+
+    @Override
+    public void bridgeStatusChanged(ThingStatusInfo bridgeStatusInfo) {
+        Bridge bridge = getBridge();
+        if (bridgeStatusInfo.getStatus() != ThingStatus.ONLINE || bridge == null) {
+            coordinatorHandler = null;
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.BRIDGE_OFFLINE);
+            return;
+        }
+
+        coordinatorHandler = (ZigBeeCoordinatorHandler) bridge.getHandler();
+        updateStatus(ThingStatus.ONLINE);
+
+        scheduler.execute(this::addGroupMembers);
+    }
+
+    @Override
+    public void handleConfigurationUpdate(Map<String, Object> configurationParameters) {
+        ZigBeeCoordinatorHandler coordinator = coordinatorHandler;
+        Set<IeeeAddress> removedMembers = new LinkedHashSet<>(members);
+        Object newGroupId = configurationParameters.get(ZigBeeBindingConstants.CONFIGURATION_GROUPID);
+        if (!(newGroupId instanceof BigDecimal) || ((BigDecimal) newGroupId).intValue() == groupId) {
+            // The group is unchanged, so only members no longer in the group need to be removed
+            Object newMembers = configurationParameters.get(ZigBeeBindingConstants.CONFIGURATION_GROUPMEMBERS);
+            if (newMembers instanceof String || newMembers == null) {
+                removedMembers.removeAll(parseMembers((String) newMembers));
+            } else {
+                removedMembers.clear();
+            }
+        }
+
+        if (coordinator != null && !removedMembers.isEmpty()) {
+            int oldGroupId = groupId;
+            logger.debug("ZigBee group {} removing {} members", String.format("%04X", oldGroupId),
+                    removedMembers.size());
+            scheduler.execute(() -> updateGroupMembers(coordinator, oldGroupId, "", removedMembers, false));
+        }
+
+        super.handleConfigurationUpdate(configurationParameters);
+    }
+
+    @Override
+    public void handleRemoval() {
+        ZigBeeCoordinatorHandler coordinator = coordinatorHandler;
+        if (coordinator == null || members.isEmpty()) {
+            updateStatus(ThingStatus.REMOVED);
+            return;
+        }
+
+        int oldGroupId = groupId;
+        Set<IeeeAddress> removedMembers = new LinkedHashSet<>(members);
+        logger.debug("ZigBee group {} removing all {} members", String.format("%04X", oldGroupId),
+                removedMembers.size());
+        scheduler.execute(() -> {
+            updateGroupMembers(coordinator, oldGroupId, "", removedMembers, false);
+            updateStatus(ThingStatus.REMOVED);
+        });
+    }
+
+    @Override
+    public void dispose() {
+        coordinatorHandler = null;
+        members.clear();
+    }
+
+    /**
+     * Gets the group ID
+     *
+     * @return the group ID
+     */
+    public int getGroupId() {
+        return groupId;
+    }
+
+    /**
+     * Gets the members of the group
+     *
+     * @return the {@link Set} of member {@link IeeeAddress}es
+     */
+    public Set<IeeeAddress> getMembers() {
+        return Collections.unmodifiableSet(members);
+    }
+
+    @Override
+    public void handleCommand(ChannelUID channelUID, Command command) {
+        if (command == RefreshType.REFRESH) {
+            // There is no state to read from a group
+            return;
+        }
+
+        ZigBeeCoordinatorHandler coordinator = coordinatorHandler;
+        Channel channel = getThing().getChannel(channelUID);
+        if (coordinator == null || channel == null) {
+            logger.debug("ZigBee group {} unable to send command {} to {}", String.format("%04X", groupId), command,
+                    channelUID);
+            return;
+        }
+
+        ChannelTypeUID channelTypeUID = channel.getChannelTypeUID();
+        if (channelTypeUID != null && (ZigBeeBindingConstants.CHANNEL_GROUP_SCENERECALL.equals(channelTypeUID)
+                || ZigBeeBindingConstants.CHANNEL_GROUP_SCENESTORE.equals(channelTypeUID))) {
+            handleSceneCommand(coordinator, channelUID, channelTypeUID, command);
+            return;
+        }
+
+        List<ZclCommand> zclCommands = new ArrayList<>();
+        State state;
+        if (command instanceof HSBType) {
+            HSBType color = (HSBType) command;
+            if (color.getBrightness().equals(PercentType.ZERO)) {
+                zclCommands.add(new OffCommand());
+            } else {
+                int hue = (int) (color.getHue().floatValue() * 254.0f / 360.0f + 0.5f);
+                zclCommands.add(
+                        new MoveToLevelWithOnOffCommand(percentToLevel(color.getBrightness()), TRANSITION_TIME));
+                zclCommands.add(new MoveToHueAndSaturationCommand(hue, percentToLevel(color.getSaturation()),
+                        TRANSITION_TIME));
+            }
+            state = color;
+        } else if (command instanceof PercentType) {
+            PercentType level = (PercentType) command;
+            if (level.equals(PercentType.ZERO)) {
+                zclCommands.add(new OffCommand());
+            } else {
+                zclCommands.add(new MoveToLevelWithOnOffCommand(percentToLevel(level), TRANSITION_TIME));
+            }
+            state = level;
+        } else if (command instanceof OnOffType) {
+            zclCommands.add(command == OnOffType.ON ? new OnCommand() : new OffCommand());
+            state = (OnOffType) command;
+        } else {
+            logger.debug("ZigBee group {} does not support command {}", String.format("%04X", groupId),
+                    command.getClass().getSimpleName());
+            return;
+        }
+
+        logger.debug("ZigBee group {} sending {} to {} members", String.format("%04X", groupId), command,
+                members.size());
+        for (ZclCommand zclCommand : zclCommands) {
+            coordinator.sendGroupCommand(groupId, zclCommand);
+        }
+
+        // Multicast commands are not acknowledged, so assume the members are now in the commanded state
+        updateState(channelUID, state);
+        if (channelTypeUID == null) {
+            return;
+        }
+        for (IeeeAddress member : members) {
+            ZigBeeThingHandler memberHandler = coordinator.getChildHandler(member);
+            if (memberHandler != null) {
+                memberHandler.updateGroupState(channelTypeUID, state);
+            }
+        }
+    }
+
+    /**
+     * Handles a scene command. Scenes are stored in each device against the group ID, so a single multicast frame
+     * recalls the scene in all devices in the group regardless of the number of devices.
+     *
+     * @param coordinator the {@link ZigBeeCoordinatorHandler}
+     * @param channelUID the {@link ChannelUID} the command was received on
+     * @param channelTypeUID the {@link ChannelTypeUID} of the channel
+     * @param command the {@link Command}
+     */
+    private void handleSceneCommand(ZigBeeCoordinatorHandler coordinator, ChannelUID channelUID,
+            ChannelTypeUID channelTypeUID, Command command) {
+        if (!(command instanceof DecimalType)) {
+            logger.debug("ZigBee group {} scene channel does not support command {}", String.format("%04X", groupId),
+                    command.getClass().getSimpleName());
+            return;
+        }
+        int sceneId = ((DecimalType) command).intValue();
+        if (sceneId < SCENE_ID_MIN || sceneId > SCENE_ID_MAX) {
+            logger.debug("ZigBee group {} scene {} is out of range", String.format("%04X", groupId), sceneId);
+            return;
+        }
+
+        ZclCommand zclCommand;
+        if (ZigBeeBindingConstants.CHANNEL_GROUP_SCENESTORE.equals(channelTypeUID)) {
+            logger.debug("ZigBee group {} storing scene {}", String.format("%04X", groupId), sceneId);
+            zclCommand = new StoreSceneCommand(groupId, sceneId);
+        } else {
+            logger.debug("ZigBee group {} recalling scene {}", String.format("%04X", groupId), sceneId);
+            zclCommand = new RecallSceneCommand(groupId, sceneId, SCENE_TRANSITION_TIME_STORED);
+        }
+        coordinator.sendGroupCommand(groupId, zclCommand);
+        updateState(channelUID, new DecimalType(sceneId));
+    }
+
+    /**
+     * Adds the group to all member endpoints that support the on/off cluster. Members that have already been added
+     * to the group are not reconfigured.
+     */
+    private void addGroupMembers() {
+        ZigBeeCoordinatorHandler coordinator = coordinatorHandler;
+        if (coordinator == null) {
+            return;
+        }
+
+        String thingLabel = getThing().getLabel();
+        String label = thingLabel == null ? "" : thingLabel;
+        updateGroupMembers(coordinator, groupId, label, members, true);
+    }
+
+    /**
+     * Adds the group to, or removes the group from, the endpoints of the specified members. The commands are sent to
+     * all endpoints before waiting for the responses, and the total time spent waiting is bounded so that an
+     * unresponsive device does not hold the thread.
+     *
+     * @param coordinator the {@link ZigBeeCoordinatorHandler}
+     * @param groupId the group ID
+     * @param label the group name sent when adding the group
+     * @param groupMembers the {@link IeeeAddress}es of the members to update
+     * @param add true to add the group to the members, false to remove it
+     */
+    private void updateGroupMembers(ZigBeeCoordinatorHandler coordinator, int groupId, String label,
+            Collection<IeeeAddress> groupMembers, boolean add) {
+        String group = String.format("%04X", groupId);
+        List<GroupMembershipRequest> requests = new ArrayList<>();
+        for (IeeeAddress member : groupMembers) {
+            ZigBeeNode node = coordinator.getNode(member);
+            if (node == null) {
+                logger.debug("{}: ZigBee group {} member not found", member, group);
+                continue;
+            }
+
+            for (ZigBeeEndpoint endpoint : node.getEndpoints()) {
+                if (endpoint.getInputCluster(ZclOnOffCluster.CLUSTER_ID) == null
+                        && endpoint.getInputCluster(ZclLevelControlCluster.CLUSTER_ID) == null
+                        && endpoint.getInputCluster(ZclColorControlCluster.CLUSTER_ID) == null) {
+                    continue;
+                }
+                ZclGroupsCluster groupsCluster = (ZclGroupsCluster) endpoint
+                        .getInputCluster(ZclGroupsCluster.CLUSTER_ID);
+                if (groupsCluster == null) {
+                    logger.debug("{}: ZigBee group {} member endpoint {} does not support groups", member, group,
+                            endpoint.getEndpointId());
+                    continue;
+                }
+
+                String key = getGroupConfigurationKey(endpoint.getEndpointId(), groupId);
+                String configured = coordinator.getDeviceConfiguration(member, key);
+                if (add && label.equals(configured)) {
+                    logger.debug("{}: ZigBee group {} member endpoint {} already added", member, group,
+                            endpoint.getEndpointId());
+                    continue;
+                }
+
+                ZclCommand command = add ? new AddGroupCommand(groupId, label) : new RemoveGroupCommand(groupId);
+                requests.add(new GroupMembershipRequest(member, endpoint.getEndpointId(), key,
+                        groupsCluster.sendCommand(command)));
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(GROUP_COMMAND_TIMEOUT);
+        for (GroupMembershipRequest request : requests) {
+            CommandResult result = null;
+            try {
+                Future<CommandResult> future = request.future;
+                if (future != null) {
+                    result = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | TimeoutException e) {
+                logger.debug("{}: ZigBee group {} exception updating member endpoint {}", request.member, group,
+                        request.endpointId, e);
+            }
+
+            if (result == null || !result.isSuccess()) {
+                logger.debug("{}: ZigBee group {} member endpoint {} failed to {} group", request.member, group,
+                        request.endpointId, add ? "add" : "remove");
+                continue;
+            }
+
+            if (add) {
+                coordinator.setDeviceConfiguration(request.member, request.key, label);
+            } else {
+                coordinator.clearDeviceConfiguration(request.member, request.key);
+            }
+            logger.debug("{}: ZigBee group {} member endpoint {} {}", request.member, group, request.endpointId,
+                    add ? "added" : "removed");
+        }
+    }
+
+    private static String getGroupConfigurationKey(int endpointId, int groupId) {
+        return String.format("%s:%d:%04X", DEVICE_CONFIGURATION_GROUP, endpointId, groupId);
+    }
+
+    /**
+     * Parses a comma separated list of member IEEE addresses
+     *
+     * @param membersString the comma separated list of {@link IeeeAddress}es. May be null.
+     * @return the {@link Set} of {@link IeeeAddress}es
+     */
+    static Set<IeeeAddress> parseMembers(@Nullable String membersString) {
+        Set<IeeeAddress> addresses = new LinkedHashSet<>();
+        if (membersString == null || membersString.isBlank()) {
+            return addresses;
+        }
+
+        for (String member : membersString.split(",")) {
+            String address = member.trim();
+            if (address.isEmpty()) {
+                continue;
+            }
+            try {
+                addresses.add(new IeeeAddress(address));
+            } catch (IllegalArgumentException e) {
+                LoggerFactory.getLogger(ZigBeeGroupHandler.class).debug("ZigBee group member address {} is invalid",
+                        address);
+            }
+        }
+        return addresses;
+    }
+
+    private int percentToLevel(PercentType percent) {
+        return (int) (percent.floatValue() * 254.0f / 100.0f + 0.5f);
+    }
+
+    /**
+     * A request to update the group membership of a single member endpoint
+     */
+    private static class GroupMembershipRequest {
+        final IeeeAddress member;
+        final int endpointId;
+        final String key;
+        final @Nullable Future<CommandResult> future;
+
+        GroupMembershipRequest(IeeeAddress member, int endpointId, String key,
+                @Nullable Future<CommandResult> future) {
+            this.member = member;
+            this.endpointId = endpointId;
+            this.key = key;
+            this.future = future;
+        }
+    }
+}
@@ -12,25 +12,33 @@
  */
 package org.openhab.binding.zigbee.handler;
 
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.openhab.core.common.ThreadPoolManager;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Service which starts timeout tasks to set a Thing to OFFLINE if it doesn't reset the timer before it runs out.
+ * Service which tracks the time each Thing last communicated, and sets the Thing to OFFLINE if it doesn't communicate
+ * within its expected interval.
  * <p>
- * This is a two stage tracker - when the initial timer times out we call aliveTimeoutLastChance to notify the handler
+ * This is a two stage tracker - when the initial interval expires we call aliveTimeoutLastChance to notify the handler
  * the thing is about to be set OFFLINE. Shortly after (eg 30 seconds) if there has still not been an update,
  * aliveTimeoutReached is called to set the thing OFFLINE.
+ * <p>
+ * Resetting the timer only records the time of the last communication, so it is cheap enough to be called for every
+ * message received from a device. A single periodic task checks all handlers for expiry.
+ * <p>
+ * Each handler moves through the {@link LivenessState}s ALIVE -> LAST_CHANCE -> OFFLINE. Transitions are made with a
+ * compare-and-set so that a concurrent reset always returns the handler to ALIVE, and each timeout callback is only
+ * called once per expiry.
  *
  * @author Stefan Triller - Initial contribution
  * @author Chris Jackson - Added last chance timer
@@ -38,15 +46,48 @@ import org.slf4j.LoggerFactory;
 @Component(immediate = true, service = ZigBeeIsAliveTracker.class)
 public class ZigBeeIsAliveTracker {
     private static final int LAST_CHANCE_TIMER = 30; // Seconds
+    private static final int SWEEP_PERIOD = 1; // Seconds
 
     private final Logger logger = LoggerFactory.getLogger(ZigBeeIsAliveTracker.class);
 
-    private Map<ZigBeeThingHandler, Integer> handlerIntervalMapping = new ConcurrentHashMap<>();
-    private Map<ZigBeeThingHandler, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
-    private Set<ZigBeeThingHandler> lastChance = new HashSet<>();
+    private final Map<ZigBeeThingHandler, HandlerState> handlerStates = new ConcurrentHashMap<>();
 
     protected final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("ZigBeeIsAliveTracker");
 
+    private ScheduledFuture<?> sweepTask;
+
+    /**
+     * The liveness state of a handler
+     */
+    public enum LivenessState {
+        /**
+         * The thing has communicated within its expected interval
+         */
+        ALIVE,
+        /**
+         * The expected interval has expired and the handler has been given its last chance to communicate
+         */
+        LAST_CHANCE,
+        /**
+         * The last chance timer has expired and the thing has been set OFFLINE
+         */
+        OFFLINE
+    }
+
+    /**
+     * Holds the liveness information for a single handler
+     */
+    private static class HandlerState {
+        private final long intervalNanos;
+        private volatile long lastSeen;
+        private final AtomicReference<LivenessState> liveness = new AtomicReference<>(LivenessState.ALIVE);
+
+        HandlerState(int interval) {
+            intervalNanos = TimeUnit.SECONDS.toNanos(interval);
+            lastSeen = System.nanoTime();
+        }
+    }
+
     /**
      * Adds a mapping from {@link ZigBeeThingHandler} to the interval in which it should have communicated
      *
@@ -54,9 +95,10 @@ public class ZigBeeIsAliveTracker {
      * @param expectedUpdateInterval the interval in which the device should have communicated with us
      */
     public void addHandler(ZigBeeThingHandler zigBeeThingHandler, int expectedUpdateInterval) {
-        logger.debug("IsAlive Tracker added for thingUID={}", zigBeeThingHandler.getThing().getUID());
-        handlerIntervalMapping.put(zigBeeThingHandler, expectedUpdateInterval);
-        resetTimer(zigBeeThingHandler);
+        logger.debug("IsAlive Tracker added for thingUID={} with interval {} seconds",
+                zigBeeThingHandler.getThing().getUID(), expectedUpdateInterval);
+        handlerStates.put(zigBeeThingHandler, new HandlerState(expectedUpdateInterval));
+        startSweep();
     }
 
     /**
@@ -66,9 +108,7 @@ public class ZigBeeIsAliveTracker {
      */
     public void removeHandler(ZigBeeThingHandler zigBeeThingHandler) {
         logger.debug("IsAlive Tracker removed for thingUID={}", zigBeeThingHandler.getThing().getUID());
-        cancelTask(zigBeeThingHandler);
-        lastChance.remove(zigBeeThingHandler);
-        handlerIntervalMapping.remove(zigBeeThingHandler);
+        handlerStates.remove(zigBeeThingHandler);
     }
 
     /**
@@ -76,51 +116,92 @@ public class ZigBeeIsAliveTracker {
      *
      * @param zigBeeThingHandler the {@link ZigBeeThingHandler}
      */
-    public synchronized void resetTimer(ZigBeeThingHandler zigBeeThingHandler) {
-        logger.trace("IsAlive Tracker reset for handler with thingUID={}", zigBeeThingHandler.getThing().getUID());
-        cancelTask(zigBeeThingHandler);
-        ScheduledFuture<?> existingTask = scheduledTasks.get(zigBeeThingHandler);
-        if (existingTask == null && handlerIntervalMapping.containsKey(zigBeeThingHandler)) {
-            int interval = handlerIntervalMapping.get(zigBeeThingHandler);
-            logger.debug("IsAlive Tracker scheduled task for thingUID={} in {} seconds",
-                    zigBeeThingHandler.getThing().getUID().getAsString(), interval);
-            scheduleTask(zigBeeThingHandler, interval);
+    public void resetTimer(ZigBeeThingHandler zigBeeThingHandler) {
+        HandlerState state = handlerStates.get(zigBeeThingHandler);
+        if (state == null) {
+            return;
         }
+        state.lastSeen = System.nanoTime();
+
+        // Return the handler to ALIVE, retrying if a concurrent sweep changes the state
+        LivenessState liveness;
+        do {
+            liveness = state.liveness.get();
+            if (liveness == LivenessState.ALIVE) {
+                return;
+            }
+        } while (!state.liveness.compareAndSet(liveness, LivenessState.ALIVE));
     }
 
-    private void scheduleTask(ZigBeeThingHandler handler, int interval) {
-        ScheduledFuture<?> task = scheduler.schedule(() -> {
-            synchronized (lastChance) {
-                scheduledTasks.remove(handler);
-                if (!lastChance.contains(handler)) {
-                    logger.debug("IsAlive Tracker LastChance Timeout has been reached for thingUID={}",
-                            handler.getThing().getUID().getAsString());
+    /**
+     * Gets the current {@link LivenessState} of a {@link ZigBeeThingHandler}
+     *
+     * @param zigBeeThingHandler the {@link ZigBeeThingHandler}
+     * @return the {@link LivenessState} or null if the handler is not tracked
+     */
+    public LivenessState getState(ZigBeeThingHandler zigBeeThingHandler) {
+        HandlerState state = handlerStates.get(zigBeeThingHandler);
+        return state == null ? null : state.liveness.get();
+    }
 
-                    // Notify the thing handler this is its last chance before it's marked OFFLINE
-                    lastChance.add(handler);
-                    handler.aliveTimeoutLastChance();
+    @Deactivate
+    protected synchronized void deactivate() {
+        if (sweepTask != null) {
+            sweepTask.cancel(true);
+            sweepTask = null;
+        }
+        handlerStates.clear();
+    }
 
-                    scheduleTask(handler, LAST_CHANCE_TIMER);
-                } else {
+    private synchronized void startSweep() {
+        if (sweepTask != null) {
+            return;
+        }
+        sweepTask = scheduler.scheduleWithFixedDelay(this::sweep, SWEEP_PERIOD, SWEEP_PERIOD, TimeUnit.SECONDS);
+    }
+
+    private void sweep() {
+        sweep(System.nanoTime());
+    }
+
+    /**
+     * Checks all handlers for expired timers
+     *
+     * @param now the current {@link System#nanoTime()}
+     */
+    void sweep(long now) {
+        for (Map.Entry<ZigBeeThingHandler, HandlerState> entry : handlerStates.entrySet()) {
+            ZigBeeThingHandler handler = entry.getKey();
+            HandlerState state = entry.getValue();
+            long elapsed = now - state.lastSeen;
+
+            try {
+                if (elapsed < state.intervalNanos) {
+                    // A reset may have raced with a previous sweep - make sure the handler is ALIVE
+                    state.liveness.compareAndSet(LivenessState.LAST_CHANCE, LivenessState.ALIVE);
+                } else if (elapsed < state.intervalNanos + TimeUnit.SECONDS.toNanos(LAST_CHANCE_TIMER)) {
+                    if (state.liveness.compareAndSet(LivenessState.ALIVE, LivenessState.LAST_CHANCE)) {
+                        logger.debug("IsAlive Tracker LastChance Timeout has been reached for thingUID={}",
+                                handler.getThing().getUID().getAsString());
+
+                        // Notify the thing handler this is its last chance before it's marked OFFLINE
+                        handler.aliveTimeoutLastChance();
+                    }
+                } else if (state.liveness.compareAndSet(LivenessState.LAST_CHANCE, LivenessState.OFFLINE)) {
                     logger.debug("IsAlive Tracker Timeout has been reached for thingUID={}",
                             handler.getThing().getUID().getAsString());
 
-                    lastChance.remove(handler);
                     handler.aliveTimeoutReached();
+                } else if (state.liveness.compareAndSet(LivenessState.ALIVE, LivenessState.LAST_CHANCE)) {
+                    // The sweep was delayed beyond the last chance period - give the handler its last chance first
+                    logger.debug("IsAlive Tracker LastChance Timeout has been reached for thingUID={}",
+                            handler.getThing().getUID().getAsString());
+
+                    handler.aliveTimeoutLastChance();
                 }
+            } catch (RuntimeException e) {
+                logger.warn("IsAlive Tracker exception processing thingUID={}", handler.getThing().getUID(), e);
             }
-        }, interval, TimeUnit.SECONDS);
-
-        scheduledTasks.put(handler, task);
-    }
-
-    private void cancelTask(ZigBeeThingHandler handler) {
-        lastChance.remove(handler);
-        ScheduledFuture<?> task = scheduledTasks.get(handler);
-        if (task != null) {
-            logger.trace("IsAlive Tracker cancelled task for thingUID={}", handler.getThing().getUID().getAsString());
-            task.cancel(true);
-            scheduledTasks.remove(handler);
         }
     }
 }
@@ -27,10 +27,15 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
-import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -63,6 +68,7 @@ import org.openhab.core.thing.binding.firmware.Firmware;
 import org.openhab.core.thing.binding.firmware.FirmwareUpdateHandler;
 import org.openhab.core.thing.binding.firmware.ProgressCallback;
 import org.openhab.core.thing.binding.firmware.ProgressStep;
+import org.openhab.core.thing.type.ChannelTypeUID;
 import org.openhab.core.thing.type.DynamicStateDescriptionProvider;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
@@ -109,7 +115,13 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
     /**
      * The map of all the channels defined for this thing
      */
-    private final Map<ChannelUID, ZigBeeBaseChannelConverter> channels = new HashMap<>();
+    private final Map<ChannelUID, ZigBeeBaseChannelConverter> channels = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link ZigBeeNode} the channel converters were created for. If the node is recreated (eg the network is
+     * restarted) the converters reference the old endpoints and clusters, so must all be recreated.
+     */
+    private ZigBeeNode converterNode;
 
     /**
      * A list of all the configuration handlers at node level.
@@ -132,6 +144,23 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
 
     private final Object pollingSync = new Object();
     private ScheduledFuture<?> pollingJob = null;
+
+    /**
+     * The polling period of each channel in seconds. The polling job runs at the shortest of these periods, and each
+     * channel is only refreshed once its own period has elapsed.
+     */
+    private final Map<ChannelUID, Integer> channelPollingPeriods = new ConcurrentHashMap<>();
+
+    /**
+     * The time (in milliseconds) at which each channel is next due to be polled
+     */
+    private final Map<ChannelUID, Long> channelPollingDue = new ConcurrentHashMap<>();
+
+    /**
+     * Command mailboxes for each channel. These serialise the commands sent to a channel and drop superseded commands.
+     */
+    private final Map<ChannelUID, ZigBeeChannelCommandMailbox> commandMailboxes = new ConcurrentHashMap<>();
+
     private final int POLLING_PERIOD_MIN = 5;
     private final int POLLING_PERIOD_MAX = 86400;
     private final int POLLING_PERIOD_DEFAULT = 1800;
@@ -146,6 +175,16 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
      */
     private final int POLLING_OR_REPORTING_MARGIN = 30;
 
+    /**
+     * The time (in seconds) to wait for the binding table to be read before giving up
+     */
+    private final int BINDING_TABLE_TIMEOUT = 60;
+
+    /**
+     * The period (in milliseconds) at which the completion of the binding table update is checked
+     */
+    private final int BINDING_TABLE_CHECK_PERIOD = 500;
+
     private ExecutorService commandScheduler = ThreadPoolManager.getPool("zigbee-thinghandler-commands");
 
     /**
@@ -219,8 +258,8 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
         if (bridgeStatusInfo.getStatus() != ThingStatus.ONLINE || getBridge() == null) {
             logger.debug("{}: Coordinator is unknown or not online.", nodeIeeeAddress);
 
-            // The bridge has gone offline. In order to avoid any issues with data that is cached in the converters
-            // we will reinitialise the node, and all converters, when the bridge comes back online.
+            // The bridge has gone offline, so we will reinitialise the node when the bridge comes back online. The
+            // converters are only recreated if the node has been recreated or its channels have changed.
             nodeInitialised = false;
 
             stopPolling();
@@ -238,13 +277,14 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
     }
 
     private void initialiseZigBeeNode() {
-        scheduler.schedule(new Callable<Void>() {
-            @Override
-            public Void call() throws Exception {
-                doNodeInitialisation();
-                return null;
-            }
-        }, 10, TimeUnit.MILLISECONDS);
+        ZigBeeCoordinatorHandler localCoordinatorHandler = coordinatorHandler;
+        IeeeAddress localIeeeAddress = nodeIeeeAddress;
+        if (localCoordinatorHandler == null || localIeeeAddress == null) {
+            return;
+        }
+
+        // The coordinator limits the number of things that are initialised concurrently
+        localCoordinatorHandler.scheduleChildInitialisation(localIeeeAddress, this, () -> doNodeInitialisation());
     }
 
     private synchronized void doNodeInitialisation() {
@@ -272,13 +312,18 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
         // Update the general properties
         ZigBeeNodePropertyDiscoverer propertyDiscoverer = new ZigBeeNodePropertyDiscoverer();
         propertyDiscoverer.setProperties(getThing().getProperties());
+        propertyDiscoverer.setPropertyCache(coordinatorHandler.getNodePropertyCache());
         Map<String, String> newProperties = propertyDiscoverer.getProperties(node);
         updateProperties(newProperties);
 
-        // Clear the channels in case we are reinitialising
-        channels.clear();
+        // If we are reinitialising, the existing converters are only kept if they were created for this node
+        if (converterNode != node) {
+            disposeConverters(new HashSet<>(channels.keySet()));
+        }
+        converterNode = node;
 
         // Get the configuration handlers applicable for the thing
+        configHandlers.clear();
         ZclClusterConfigFactory configFactory = new ZclClusterConfigFactory();
         for (ZigBeeEndpoint endpoint : coordinatorHandler.getNodeEndpoints(nodeIeeeAddress)) {
             List<ZclClusterConfigHandler> handlers = configFactory.getConfigHandlers(endpoint);
@@ -364,30 +409,46 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
         try {
             pollingPeriod = POLLING_PERIOD_MAX;
 
-            // Check if the channels we've discovered are the same
-            List<ChannelUID> oldChannelUidList = new ArrayList<ChannelUID>();
+            // Check if the channels we've discovered are the same. A channel whose type has changed is treated as
+            // a new channel, so that its converter is recreated.
+            Set<ChannelUID> oldChannelUids = new HashSet<>();
             for (Channel channel : getThing().getChannels()) {
-                oldChannelUidList.add(channel.getUID());
+                oldChannelUids.add(channel.getUID());
             }
-            List<ChannelUID> newChannelUidList = new ArrayList<ChannelUID>();
+            Set<ChannelUID> newChannelUids = new HashSet<>();
+            Set<ChannelUID> changedChannelUids = new HashSet<>();
             for (Channel channel : nodeChannels) {
-                newChannelUidList.add(channel.getUID());
+                newChannelUids.add(channel.getUID());
 
                 // Add the configuration from the existing channel into the new channel
                 Channel currentChannel = getThing().getChannel(channel.getUID());
                 if (currentChannel != null) {
                     channel.getConfiguration().setProperties(currentChannel.getConfiguration().getProperties());
+                    if (!Objects.equals(currentChannel.getChannelTypeUID(), channel.getChannelTypeUID())
+                            || !currentChannel.getProperties().equals(channel.getProperties())) {
+                        changedChannelUids.add(channel.getUID());
+                    }
                 }
             }
 
-            if (!newChannelUidList.equals(oldChannelUidList)) {
+            if (!newChannelUids.equals(oldChannelUids) || !changedChannelUids.isEmpty()) {
                 logger.debug("{}: Updating thing definition as channels have changed from {} to {}", nodeIeeeAddress,
-                        oldChannelUidList, newChannelUidList);
+                        oldChannelUids, newChannelUids);
                 ThingBuilder thingBuilder = editThing();
                 thingBuilder.withChannels(nodeChannels).withConfiguration(getConfig());
                 updateThing(thingBuilder.build());
             }
 
+            Set<ChannelUID> addedChannelUids = new HashSet<>(newChannelUids);
+            addedChannelUids.removeAll(oldChannelUids);
+            addedChannelUids.addAll(changedChannelUids);
+
+            // Dispose the converters for channels that have been removed or changed
+            Set<ChannelUID> staleChannelUids = new HashSet<>(channels.keySet());
+            staleChannelUids.removeAll(newChannelUids);
+            staleChannelUids.addAll(changedChannelUids);
+            disposeConverters(staleChannelUids);
+
             boolean doInitializeDevice = !Boolean
                     .parseBoolean(thing.getProperties().get(ZigBeeBindingConstants.THING_PROPERTY_DEVICE_INITIALIZED));
             if (doInitializeDevice) {
@@ -398,7 +459,20 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
             }
 
             // Create the channel map to simplify processing incoming events
+            int reusedConverters = 0;
             for (Channel channel : getThing().getChannels()) {
+                // Converters for unchanged channels are kept, along with their listeners and state
+                ZigBeeBaseChannelConverter existingHandler = channels.get(channel.getUID());
+                if (existingHandler != null) {
+                    int channelPollingPeriod = getChannelPollingPeriod(channel, existingHandler);
+                    channelPollingPeriods.put(channel.getUID(), channelPollingPeriod);
+                    if (channelPollingPeriod < pollingPeriod) {
+                        pollingPeriod = channelPollingPeriod;
+                    }
+                    reusedConverters++;
+                    continue;
+                }
+
                 ZigBeeBaseChannelConverter handler = createZigBeeChannelConverter(channel);
                 if (handler == null) {
                     logger.debug("{}: No handler found for {} of type {}", nodeIeeeAddress, channel.getUID(),
@@ -411,6 +485,11 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
                     continue;
                 }
 
+                // Channels added to an already initialised device still need the device to be configured for them
+                if (!doInitializeDevice && addedChannelUids.contains(channel.getUID())) {
+                    handler.initializeDeviceIfRequired();
+                }
+
                 if (channel.getConfiguration().get(ZclReportingConfig.CONFIG_POLLING) == null) {
                     channel.getConfiguration().put(ZclReportingConfig.CONFIG_POLLING, handler.getPollingPeriod());
                 }
@@ -422,8 +501,10 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
 
                 channels.put(channel.getUID(), handler);
 
-                if (handler.getPollingPeriod() < pollingPeriod) {
-                    pollingPeriod = handler.getPollingPeriod();
+                int channelPollingPeriod = getChannelPollingPeriod(channel, handler);
+                channelPollingPeriods.put(channel.getUID(), channelPollingPeriod);
+                if (channelPollingPeriod < pollingPeriod) {
+                    pollingPeriod = channelPollingPeriod;
                 }
 
                 // Provide the state descriptions if the channel provides them
@@ -432,6 +513,7 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
                     stateDescriptions.put(channel.getUID(), stateDescription);
                 }
             }
+            logger.debug("{}: Reused {} existing channel converters", nodeIeeeAddress, reusedConverters);
         } catch (Exception e) {
             logger.error("{}: Exception creating channels", nodeIeeeAddress, e);
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.HANDLER_INITIALIZING_ERROR);
@@ -459,13 +541,7 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
 
         // Update the binding table.
         // We're not doing anything with the information here, but we want it up to date so it's ready for use later.
-        try {
-            if (node.updateBindingTable().get() != ZigBeeStatus.SUCCESS) {
-                logger.debug("{}: Error getting binding table", nodeIeeeAddress);
-            }
-        } catch (InterruptedException | ExecutionException e) {
-            logger.error("{}: Exception getting binding table ", nodeIeeeAddress, e);
-        }
+        updateBindingTable(node);
 
         // Listen for incoming OTA requests
         ZclOtaUpgradeServer otaServer = getOtaServer(node);
@@ -484,6 +560,46 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
         coordinatorHandler.serializeNetwork(node.getIeeeAddress());
     }
 
+    /**
+     * Disposes the converters for a set of channels and removes them from the channel map
+     *
+     * @param channelUids the {@link ChannelUID}s of the channels to remove
+     */
+    private void disposeConverters(Set<ChannelUID> channelUids) {
+        for (ChannelUID channelUid : channelUids) {
+            ZigBeeBaseChannelConverter converter = channels.remove(channelUid);
+            if (converter == null) {
+                continue;
+            }
+            logger.debug("{}: Disposing converter for channel {}", nodeIeeeAddress, channelUid);
+            converter.disposeConverter();
+            channelPollingPeriods.remove(channelUid);
+            channelPollingDue.remove(channelUid);
+            stateDescriptions.remove(channelUid);
+            commandMailboxes.remove(channelUid);
+        }
+    }
+
+    /**
+     * Gets the polling period to be used for a channel. The period configured in the channel takes precedence over the
+     * default period provided by the converter.
+     *
+     * @param channel the {@link Channel}
+     * @param converter the {@link ZigBeeBaseChannelConverter} for the channel
+     * @return the polling period for the channel in seconds
+     */
+    private int getChannelPollingPeriod(Channel channel, ZigBeeBaseChannelConverter converter) {
+        int channelPollingPeriod;
+        Object configPollingPeriod = channel.getConfiguration().get(ZclReportingConfig.CONFIG_POLLING);
+        if (configPollingPeriod instanceof Number) {
+            channelPollingPeriod = ((Number) configPollingPeriod).intValue();
+        } else {
+            channelPollingPeriod = converter.getPollingPeriod();
+        }
+
+        return Math.max(POLLING_PERIOD_MIN, Math.min(POLLING_PERIOD_MAX, channelPollingPeriod));
+    }
+
     private int getExpectedUpdatePeriod(Map<ChannelUID, ZigBeeBaseChannelConverter> channels) {
         Set<Integer> intervals = new HashSet<>();
         for (ZigBeeBaseChannelConverter channelConverter : channels.values()) {
@@ -537,7 +653,7 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
             }
 
             logger.debug("{}: Initializing channel {} with {}", nodeIeeeAddress, channel.getUID(), handler);
-            if (handler.initializeDevice() == false) {
+            if (handler.initializeDeviceIfRequired() == false) {
                 logger.info("{}: Channel {} failed to initialise device", nodeIeeeAddress, channel.getUID());
                 channelInitializationSuccessful = false;
             }
@@ -588,6 +704,10 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
             coordinatorHandler.removeNetworkNodeListener(this);
             coordinatorHandler.removeAnnounceListener(this);
 
+            if (nodeIeeeAddress != null) {
+                coordinatorHandler.cancelChildInitialisation(nodeIeeeAddress, this);
+            }
+
             if (nodeIeeeAddress != null && coordinatorHandler.getNode(nodeIeeeAddress) != null) {
                 ZclOtaUpgradeServer otaServer = getOtaServer(coordinatorHandler.getNode(nodeIeeeAddress));
                 if (otaServer != null) {
@@ -602,6 +722,9 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
             channel.disposeConverter();
         }
         channels.clear();
+        channelPollingPeriods.clear();
+        commandMailboxes.clear();
+        converterNode = null;
 
         isAliveTracker.removeHandler(this);
 
@@ -619,7 +742,79 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
     }
 
     /**
-     * Start polling channel updates
+     * Requests an update of the node's binding table without blocking the caller. The result is only logged - a slow
+     * or sleeping node must not hold up the initialisation of the thing.
+     * <p>
+     * The library returns a plain {@link Future}, so its completion is checked periodically from the timer service
+     * rather than blocking a thread on it.
+     *
+     * @param node the {@link ZigBeeNode} to update
+     * @return a {@link CompletableFuture} completed with the result of the update, or null if no update was requested
+     */
+    @SuppressWarnings("unchecked")
+    private @Nullable CompletableFuture<ZigBeeStatus> updateBindingTable(ZigBeeNode node) {
+        final IeeeAddress address = nodeIeeeAddress;
+        Future<ZigBeeStatus> future = node.updateBindingTable();
+        if (future == null) {
+            return null;
+        }
+
+        CompletableFuture<ZigBeeStatus> completable;
+        if (future instanceof CompletableFuture) {
+            completable = (CompletableFuture<ZigBeeStatus>) future;
+        } else {
+            completable = new CompletableFuture<>();
+            ScheduledExecutorService timerService = coordinatorHandler.getTimerService();
+            scheduleBindingTableCheck(completable, future, timerService == null ? scheduler : timerService);
+        }
+
+        logger.debug("{}: Binding table update requested", address);
+        return completable.orTimeout(BINDING_TABLE_TIMEOUT, TimeUnit.SECONDS).whenComplete((status, exception) -> {
+            if (exception != null) {
+                future.cancel(false);
+            }
+            bindingTableUpdated(address, status, exception);
+        });
+    }
+
+    private void scheduleBindingTableCheck(CompletableFuture<ZigBeeStatus> completable, Future<ZigBeeStatus> future,
+            ScheduledExecutorService timerService) {
+        try {
+            timerService.schedule(() -> {
+                if (completable.isDone()) {
+                    return;
+                }
+                if (!future.isDone()) {
+                    scheduleBindingTableCheck(completable, future, timerService);
+                    return;
+                }
+                try {
+                    completable.complete(future.get());
+                } catch (InterruptedException | ExecutionException | RuntimeException e) {
+                    completable.completeExceptionally(e);
+                }
+            }, BINDING_TABLE_CHECK_PERIOD, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            completable.completeExceptionally(e);
+        }
+    }
+
+    private void bindingTableUpdated(IeeeAddress address, ZigBeeStatus status, Throwable exception) {
+        if (exception != null) {
+            logger.debug("{}: Exception getting binding table: {}", address, exception.getMessage());
+        } else if (status != ZigBeeStatus.SUCCESS) {
+            logger.debug("{}: Error getting binding table: {}", address, status);
+        } else {
+            logger.debug("{}: Binding table updated", address);
+        }
+    }
+
+    /**
+     * Start polling channel updates.
+     * <p>
+     * A single polling job is scheduled at the shortest polling period of all channels. Each time it runs, only the
+     * channels whose own polling period has elapsed are refreshed. When polling is (re)started, all channels are
+     * refreshed on the first run.
      */
     private void startPolling() {
         Runnable pollingRunnable = new Runnable() {
@@ -628,6 +823,7 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
                 try {
                     logger.debug("{}: Polling {} channels", nodeIeeeAddress, channels.keySet().size());
 
+                    long now = System.currentTimeMillis();
                     for (ChannelUID channelUid : channels.keySet()) {
                         if (!isLinked(channelUid)) {
                             // Don't poll if this channel isn't linked
@@ -635,11 +831,20 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
                             continue;
                         }
 
+                        Long pollingDue = channelPollingDue.get(channelUid);
+                        if (pollingDue != null && now < pollingDue) {
+                            logger.trace("{}: Not polling {} - next poll due in {}ms", nodeIeeeAddress, channelUid,
+                                    pollingDue - now);
+                            continue;
+                        }
+
                         ZigBeeBaseChannelConverter converter = channels.get(channelUid);
                         if (converter == null) {
                             logger.debug("{}: Not polling {} - no converter found", nodeIeeeAddress, channelUid);
                         } else {
                             logger.debug("{}: Polling {}", nodeIeeeAddress, channelUid);
+                            int channelPollingPeriod = channelPollingPeriods.getOrDefault(channelUid, pollingPeriod);
+                            channelPollingDue.put(channelUid, now + channelPollingPeriod * 1000L);
                             converter.handleRefresh();
                         }
                     }
@@ -651,6 +856,7 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
 
         synchronized (pollingSync) {
             stopPolling();
+            channelPollingDue.clear();
 
             if (pollingPeriod < POLLING_PERIOD_MIN) {
                 logger.debug("{}: Polling period was set below minimum value. Using minimum.", nodeIeeeAddress);
@@ -682,6 +888,20 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
         startPolling();
     }
 
+    /**
+     * Called by the coordinator when the device has been reset and its configuration records have been cleared. The
+     * device no longer holds the bind and reporting configuration, so it is configured again.
+     */
+    public void deviceReset() {
+        if (!nodeInitialised) {
+            // The device will be configured when the thing is initialised
+            return;
+        }
+
+        logger.debug("{}: Device has been reset - configuring device", nodeIeeeAddress);
+        scheduler.execute(this::initializeDevice);
+    }
+
     @Override
     public void channelLinked(ChannelUID channelUID) {
         logger.debug("{}: Channel {} linked - polling started.", nodeIeeeAddress, channelUID);
@@ -746,6 +966,8 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
 
         if (doInitializeDevice) {
             logger.debug("{}: Configuration updated: Reinitialise device", nodeIeeeAddress);
+            // The user has requested a full reinitialisation, so forget what we think the device already holds
+            coordinatorHandler.clearDeviceConfiguration(nodeIeeeAddress);
             initializeDevice();
         }
     }
@@ -769,21 +991,56 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
             return;
         }
 
-        Runnable commandHandler = new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    if (command == RefreshType.REFRESH) {
-                        handler.handleRefresh();
-                    } else {
-                        handler.handleCommand(command);
-                    }
-                } catch (Exception e) {
-                    logger.debug("{}: Exception sending command to channel {}", nodeIeeeAddress, channelUID, e);
-                }
+        commandMailboxes.computeIfAbsent(channelUID, uid -> new ZigBeeChannelCommandMailbox(uid,
+                mailboxCommand -> processCommand(uid, mailboxCommand))).submit(command, getCommandExecutor());
+    }
+
+    /**
+     * Processes a command from the channel mailbox
+     *
+     * @param channelUID the {@link ChannelUID} of the channel
+     * @param command the {@link Command} to process
+     * @return a {@link CompletionStage} that completes when the device has responded to the command
+     */
+    private @Nullable CompletionStage<?> processCommand(ChannelUID channelUID, Command command) {
+        ZigBeeBaseChannelConverter handler = channels.get(channelUID);
+        if (handler == null) {
+            logger.debug("{}: No command handler found for {}", nodeIeeeAddress, channelUID);
+            return null;
+        }
+
+        try {
+            if (command == RefreshType.REFRESH) {
+                handler.handleRefresh();
+                return null;
+            }
+            return handler.handleCommandAsync(command);
+        } catch (Exception e) {
+            logger.debug("{}: Exception sending command to channel {}", nodeIeeeAddress, channelUID, e);
+            return null;
+        }
+    }
+
+    /**
+     * Gets the executor to run commands on. If the coordinator provides a command executor (eg using virtual threads)
+     * then this is used, otherwise the shared command pool is used.
+     *
+     * @return the {@link Executor} to run commands on
+     */
+    private Executor getCommandExecutor() {
+        ZigBeeCoordinatorHandler coordinator = coordinatorHandler;
+        ExecutorService executor = coordinator == null ? null : coordinator.getCommandExecutor();
+        if (executor == null || executor.isShutdown()) {
+            return commandScheduler;
+        }
+        return command -> {
+            try {
+                executor.execute(command);
+            } catch (RejectedExecutionException e) {
+                // The coordinator executor was shutdown since we retrieved it
+                commandScheduler.execute(command);
             }
         };
-        commandScheduler.execute(commandHandler);
     }
 
     @Override
@@ -797,6 +1054,24 @@ public class ZigBeeThingHandler extends BaseThingHandler implements ZigBeeNetwor
         }
     }
 
+    /**
+     * Updates the state of all channels of the given channel type following a command sent to a group that this
+     * thing is a member of. Group commands are not acknowledged by the device, so this does not indicate that the
+     * device is alive.
+     *
+     * @param channelTypeUID the {@link ChannelTypeUID} of the channels to update
+     * @param state the new {@link State}
+     */
+    public void updateGroupState(ChannelTypeUID channelTypeUID, State state) {
+        for (Channel channel : getThing().getChannels()) {
+            if (channelTypeUID.equals(channel.getChannelTypeUID()) && channels.containsKey(channel.getUID())) {
+                logger.debug("{}: Updating ZigBee channel state {} to {} from group", nodeIeeeAddress,
+                        channel.getUID(), state);
+                updateState(channel.getUID(), state);
+            }
+        }
+    }
+
     /**
      * Callback from handlers to update a channel state. This is called from the channel converter when the state
      * changes.
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zigbee.handler;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.zigbee.internal.ZigBeePriorityJobQueue;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor.LogicalType;
+import com.zsmartsystems.zigbee.zdo.field.PowerDescriptor;
+import com.zsmartsystems.zigbee.zdo.field.PowerDescriptor.PowerSourceType;
+
+/**
+ * Schedules the initialisation of the things attached to a coordinator.
+ * <p>
+ * Initialisation jobs are run on a {@link ZigBeePriorityJobQueue} with a bounded number of threads so that a large
+ * network does not flood the coordinator with requests when it comes ONLINE. Jobs are prioritised so that mains powered
+ * routers are initialised first, ensuring the mesh is healthy before the (often sleepy) end devices are configured. A
+ * thing is only queued once - further requests for a thing that is still waiting in the queue are ignored, unless the
+ * new request has a higher priority, or is from a new handler in which case it replaces the queued initialisation.
+ *
+ * @author Chris Jackson - Initial contribution
+ */
+@NonNullByDefault
+class ZigBeeThingInitialisationScheduler {
+    private static final int PRIORITY_ROUTER = 0;
+    private static final int PRIORITY_MAINS = 1;
+    private static final int PRIORITY_OTHER = 2;
+
+    private final ZigBeePriorityJobQueue<IeeeAddress> queue;
+
+    /**
+     * Creates the scheduler
+     *
+     * @param name the name used for logging - normally the coordinator UID
+     * @param concurrency the maximum number of things that may be initialised concurrently
+     */
+    ZigBeeThingInitialisationScheduler(String name, int concurrency) {
+        queue = new ZigBeePriorityJobQueue<>(name + " thing initialisation", "zigbee-thing-init", concurrency);
+    }
+
+    /**
+     * Sets the maximum number of things that may be initialised concurrently
+     *
+     * @param concurrency the maximum number of things that may be initialised concurrently
+     */
+    void setConcurrency(int concurrency) {
+        queue.setConcurrency(concurrency);
+    }
+
+    /**
+     * Queues the initialisation of a thing.
+     *
+     * @param address the {@link IeeeAddress} of the thing
+     * @param handler the handler requesting the initialisation
+     * @param node the {@link ZigBeeNode} if known - this is used to prioritise the initialisation
+     * @param initialisation the {@link Runnable} that performs the initialisation
+     * @return true if the initialisation was queued, false if it was already queued by the handler or the scheduler is
+     *         shutdown
+     */
+    boolean schedule(IeeeAddress address, Object handler, @Nullable ZigBeeNode node, Runnable initialisation) {
+        return queue.schedule(address, handler, getPriority(node), queue.nextSequence(), initialisation);
+    }
+
+    /**
+     * Removes the initialisation of a thing from the queue if it was queued by the handler
+     *
+     * @param address the {@link IeeeAddress} of the thing
+     * @param handler the handler that requested the initialisation
+     * @return true if the initialisation was removed from the queue
+     */
+    boolean cancel(IeeeAddress address, Object handler) {
+        return queue.cancel(address, handler);
+    }
+
+    /**
+     * Gets the number of things waiting to be initialised
+     *
+     * @return the number of queued initialisations
+     */
+    int getQueueLength() {
+        return queue.getQueueLength();
+    }
+
+    /**
+     * Stops the scheduler. Any queued initialisations are discarded, while initialisations already in progress are
+     * allowed to complete.
+     */
+    void shutdown() {
+        queue.shutdown();
+    }
+
+    private int getPriority(@Nullable ZigBeeNode node) {
+        if (node == null) {
+            return PRIORITY_OTHER;
+        }
+
+        PowerDescriptor powerDescriptor = node.getPowerDescriptor();
+        boolean mainsPowered = powerDescriptor != null
+                && powerDescriptor.getCurrentPowerSource() == PowerSourceType.MAINS;
+        if (mainsPowered && node.getLogicalType() == LogicalType.ROUTER) {
+            return PRIORITY_ROUTER;
+        }
+        if (mainsPowered) {
+            return PRIORITY_MAINS;
+        }
+
+        return PRIORITY_OTHER;
+    }
+}
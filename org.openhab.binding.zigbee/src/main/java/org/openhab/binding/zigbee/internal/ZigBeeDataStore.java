@@ -24,7 +24,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
 
@@ -66,6 +69,12 @@ public class ZigBeeDataStore implements ZigBeeNetworkDataStore {
     private final String backupFilePath;
     private final String networkStateFilePath;
 
+    /**
+     * Cache of the configuration that has been applied to each device (bindings, reporting etc). This is persisted
+     * alongside the node so that it survives restarts.
+     */
+    private final Map<IeeeAddress, Properties> deviceConfigurations = new HashMap<>();
+
     public ZigBeeDataStore(String networkId) {
         networkStateFilePath = OpenHAB.getUserDataFolder() + File.separator + ZigBeeBindingConstants.BINDING_ID
                 + File.separator + networkId + File.separator;
@@ -122,6 +131,10 @@ public class ZigBeeDataStore implements ZigBeeNetworkDataStore {
         return new File(networkStateFilePath + address + ".xml");
     }
 
+    private File getDeviceConfigurationFile(IeeeAddress address) {
+        return new File(networkStateFilePath + address + ".properties");
+    }
+
     @Override
     public Set<IeeeAddress> readNetworkNodes() {
         Set<IeeeAddress> nodes = new HashSet<>();
@@ -187,12 +200,101 @@ public class ZigBeeDataStore implements ZigBeeNetworkDataStore {
         } else {
             logger.error("{}: Error removing network state", address);
         }
+
+        removeDeviceConfiguration(address);
+    }
+
+    /**
+     * Gets a device configuration record that was previously applied to a node
+     *
+     * @param address the {@link IeeeAddress} of the node
+     * @param key the key of the configuration record
+     * @return the recorded configuration value, or null if nothing is recorded
+     */
+    public synchronized String readDeviceConfiguration(IeeeAddress address, String key) {
+        return getDeviceConfiguration(address).getProperty(key);
+    }
+
+    /**
+     * Records a configuration that has been successfully applied to a node. The record is persisted immediately.
+     *
+     * @param address the {@link IeeeAddress} of the node
+     * @param key the key of the configuration record
+     * @param value the configuration value that was applied
+     */
+    public synchronized void writeDeviceConfiguration(IeeeAddress address, String key, String value) {
+        Properties configuration = getDeviceConfiguration(address);
+        if (value.equals(configuration.getProperty(key))) {
+            return;
+        }
+        configuration.setProperty(key, value);
+        saveDeviceConfiguration(address, configuration);
+    }
+
+    /**
+     * Removes a single device configuration record for a node. This should be called when configuration is removed
+     * from the device so that it is sent again if it is later reapplied.
+     *
+     * @param address the {@link IeeeAddress} of the node
+     * @param key the key of the configuration record
+     */
+    public synchronized void removeDeviceConfiguration(IeeeAddress address, String key) {
+        Properties configuration = getDeviceConfiguration(address);
+        if (configuration.remove(key) == null) {
+            return;
+        }
+        saveDeviceConfiguration(address, configuration);
+    }
+
+    /**
+     * Removes all device configuration records for a node. This should be called if the device is reset, or needs to
+     * be completely reconfigured.
+     *
+     * @param address the {@link IeeeAddress} of the node
+     */
+    public synchronized void removeDeviceConfiguration(IeeeAddress address) {
+        deviceConfigurations.remove(address);
+        File file = getDeviceConfigurationFile(address);
+        if (file.exists() && !file.delete()) {
+            logger.error("{}: Error removing device configuration", address);
+        }
+    }
+
+    private void saveDeviceConfiguration(IeeeAddress address, Properties configuration) {
+        File file = getDeviceConfigurationFile(address);
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), CHARSET))) {
+            configuration.store(writer, null);
+            logger.trace("{}: ZigBee saving device configuration complete.", address);
+        } catch (IOException e) {
+            logger.error("{}: Error writing device configuration: ", address, e);
+        }
+    }
+
+    private Properties getDeviceConfiguration(IeeeAddress address) {
+        Properties configuration = deviceConfigurations.get(address);
+        if (configuration != null) {
+            return configuration;
+        }
+
+        configuration = new Properties();
+        File file = getDeviceConfigurationFile(address);
+        if (file.exists()) {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(new FileInputStream(file), CHARSET))) {
+                configuration.load(reader);
+            } catch (IOException e) {
+                logger.error("{}: Error reading device configuration: ", address, e);
+            }
+        }
+        deviceConfigurations.put(address, configuration);
+        return configuration;
     }
 
     /**
      * Deletes the network state file
      */
     public synchronized void delete() {
+        deviceConfigurations.clear();
         try {
             logger.debug("Deleting ZigBee network state");
             Files.walk(Paths.get(networkStateFilePath)).sorted(Comparator.reverseOrder()).map(Path::toFile)
@@ -16,6 +16,7 @@ import java.util.Hashtable;
 
 import org.openhab.binding.zigbee.ZigBeeBindingConstants;
 import org.openhab.binding.zigbee.converter.ZigBeeChannelConverterFactory;
+import org.openhab.binding.zigbee.handler.ZigBeeGroupHandler;
 import org.openhab.binding.zigbee.handler.ZigBeeIsAliveTracker;
 import org.openhab.binding.zigbee.handler.ZigBeeThingHandler;
 import org.openhab.core.config.core.ConfigDescriptionProvider;
@@ -39,15 +40,15 @@ import org.osgi.service.component.annotations.Reference;
 @Component(service = ThingHandlerFactory.class)
 public class ZigBeeHandlerFactory extends BaseThingHandlerFactory {
 
-    private final ZigBeeThingTypeMatcher matcher = new ZigBeeThingTypeMatcher();
-
+    private ZigBeeThingTypeMatcher matcher;
     private ZigBeeChannelConverterFactory zigbeeChannelConverterFactory;
     private ZigBeeIsAliveTracker zigbeeIsAliveTracker;
 
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         // The core binding provides dynamic device creation
-        if (thingTypeUID.equals(ZigBeeBindingConstants.THING_TYPE_GENERIC_DEVICE)) {
+        if (thingTypeUID.equals(ZigBeeBindingConstants.THING_TYPE_GENERIC_DEVICE)
+                || thingTypeUID.equals(ZigBeeBindingConstants.THING_TYPE_GROUP)) {
             return true;
         }
 
@@ -60,6 +61,10 @@ public class ZigBeeHandlerFactory extends BaseThingHandlerFactory {
             return null;
         }
 
+        if (thing.getThingTypeUID().equals(ZigBeeBindingConstants.THING_TYPE_GROUP)) {
+            return new ZigBeeGroupHandler(thing);
+        }
+
         ZigBeeThingHandler handler = new ZigBeeThingHandler(thing, zigbeeChannelConverterFactory, zigbeeIsAliveTracker);
         bundleContext.registerService(ConfigDescriptionProvider.class.getName(), handler,
                 new Hashtable<String, Object>());
@@ -69,6 +74,15 @@ public class ZigBeeHandlerFactory extends BaseThingHandlerFactory {
         return handler;
     }
 
+    @Reference
+    protected void setZigBeeThingTypeMatcher(ZigBeeThingTypeMatcher matcher) {
+        this.matcher = matcher;
+    }
+
+    protected void unsetZigBeeThingTypeMatcher(ZigBeeThingTypeMatcher matcher) {
+        this.matcher = null;
+    }
+
     @Reference
     protected void setZigBeeChannelConverterFactory(ZigBeeChannelConverterFactory zigbeeChannelConverterFactory) {
         this.zigbeeChannelConverterFactory = zigbeeChannelConverterFactory;
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zigbee.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.common.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A queue of jobs that are run on a dedicated pool with a bounded number of threads.
+ * <p>
+ * This is used where the binding needs to run a large number of jobs that block while they communicate with devices -
+ * eg initialising things or discovering nodes following a coordinator restart. Bounding the number of threads stops
+ * these jobs from flooding the network with requests.
+ * <p>
+ * Each job has a key - normally the address of the node - and only one job is queued for a key. Jobs are run in order
+ * of their priority, where a lower value runs first, and jobs of the same priority are run in order of the order value
+ * provided when the job was scheduled. A job that is scheduled for a key that is already queued is ignored, unless it
+ * has a higher priority in which case it replaces the queued job.
+ * <p>
+ * Each job also has an owner - eg the handler that scheduled it. If a job is scheduled by a different owner to the job
+ * that is already queued for the key, the queued job is replaced so that a job from an owner that has since been
+ * disposed is never run. An owner may also cancel its queued job.
+ *
+ * @param <K> the type of the key used to identify jobs
+ * @author Chris Jackson - Initial contribution
+ */
+@NonNullByDefault
+public class ZigBeePriorityJobQueue<K> {
+    private final Logger logger = LoggerFactory.getLogger(ZigBeePriorityJobQueue.class);
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * The jobs waiting in the queue, keyed by the job key
+     */
+    private final Map<K, QueuedJob> pending = new HashMap<>();
+
+    /**
+     * Sequence number that may be used as the order of jobs to retain the order in which they were scheduled
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    private int batchScheduled = 0;
+    private int batchCompleted = 0;
+    private long batchStartTime = 0;
+
+    /**
+     * Creates the queue
+     *
+     * @param name the name used for logging
+     * @param threadName the name of the pool threads
+     * @param concurrency the maximum number of jobs that may run concurrently
+     */
+    public ZigBeePriorityJobQueue(String name, String threadName, int concurrency) {
+        this.name = name;
+        int threads = Math.max(1, concurrency);
+        executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new PriorityBlockingQueue<>(),
+                new NamedThreadFactory(threadName, true));
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Sets the maximum number of jobs that may run concurrently. Jobs that are already running are not affected.
+     *
+     * @param concurrency the maximum number of jobs that may run concurrently
+     */
+    public void setConcurrency(int concurrency) {
+        int threads = Math.max(1, concurrency);
+        synchronized (executor) {
+            if (threads > executor.getMaximumPoolSize()) {
+                executor.setMaximumPoolSize(threads);
+                executor.setCorePoolSize(threads);
+            } else {
+                executor.setCorePoolSize(threads);
+                executor.setMaximumPoolSize(threads);
+            }
+        }
+        logger.debug("{}: Concurrency set to {}", name, threads);
+    }
+
+    /**
+     * Gets the maximum number of jobs that may run concurrently
+     *
+     * @return the concurrency
+     */
+    public int getConcurrency() {
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * Gets the next sequence number. This may be used as the order of a job so that jobs of the same priority are run
+     * in the order they were scheduled, or negated so that the most recently scheduled job is run first.
+     *
+     * @return the sequence number
+     */
+    public long nextSequence() {
+        return sequence.getAndIncrement();
+    }
+
+    /**
+     * Queues a job
+     *
+     * @param key the key identifying the job
+     * @param owner the owner of the job
+     * @param priority the priority of the job - lower values run first
+     * @param order the order of the job within jobs of the same priority - lower values run first
+     * @param job the {@link Runnable} to run
+     * @return true if the job was queued, false if the owner already has a job queued for the key or the queue is
+     *         shutdown
+     */
+    public boolean schedule(K key, Object owner, int priority, long order, Runnable job) {
+        QueuedJob queuedJob = new QueuedJob(key, owner, priority, order, job);
+
+        synchronized (pending) {
+            QueuedJob existingJob = pending.get(key);
+            if (existingJob != null) {
+                // Move the job ahead in the queue if it now has a higher priority
+                if (priority >= existingJob.priority || !executor.remove(existingJob)) {
+                    if (existingJob.owner == owner) {
+                        logger.trace("{}: {} job already queued", key, name);
+                        return false;
+                    }
+
+                    // Replace the job from the previous owner, retaining its place in the queue
+                    existingJob.owner = owner;
+                    existingJob.job = job;
+                    logger.debug("{}: {} job replaced by new owner", key, name);
+                    return true;
+                }
+            } else {
+                if (batchScheduled == batchCompleted) {
+                    batchScheduled = 0;
+                    batchCompleted = 0;
+                    batchStartTime = System.currentTimeMillis();
+                }
+                batchScheduled++;
+            }
+            pending.put(key, queuedJob);
+        }
+
+        try {
+            executor.execute(queuedJob);
+        } catch (RejectedExecutionException e) {
+            logger.debug("{}: {} job rejected", key, name);
+            synchronized (pending) {
+                if (pending.remove(key, queuedJob)) {
+                    batchScheduled--;
+                }
+            }
+            return false;
+        }
+
+        logger.debug("{}: {} job queued with priority {}", key, name, priority);
+        return true;
+    }
+
+    /**
+     * Removes a job from the queue. The job is only removed if it was scheduled by the owner, and it is not already
+     * running.
+     *
+     * @param key the key identifying the job
+     * @param owner the owner of the job
+     * @return true if the job was removed from the queue
+     */
+    public boolean cancel(K key, Object owner) {
+        synchronized (pending) {
+            QueuedJob existingJob = pending.get(key);
+            if (existingJob == null || existingJob.owner != owner) {
+                return false;
+            }
+            pending.remove(key);
+            executor.remove(existingJob);
+            batchScheduled--;
+        }
+
+        logger.debug("{}: {} job cancelled", key, name);
+        return true;
+    }
+
+    /**
+     * Gets the number of jobs waiting in the queue
+     *
+     * @return the number of queued jobs
+     */
+    public int getQueueLength() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Stops the queue. Any queued jobs are discarded, and jobs that are already running are allowed to complete.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        executor.getQueue().clear();
+        synchronized (pending) {
+            pending.clear();
+        }
+    }
+
+    private void jobCompleted() {
+        synchronized (pending) {
+            batchCompleted++;
+            logger.debug("{}: Progress {}/{}", name, batchCompleted, batchScheduled);
+            if (batchCompleted == batchScheduled && batchScheduled > 1) {
+                logger.info("{}: {} jobs completed in {}ms", name, batchScheduled,
+                        System.currentTimeMillis() - batchStartTime);
+            }
+        }
+    }
+
+    private class QueuedJob implements Runnable, Comparable<QueuedJob> {
+        private final K key;
+        private final int priority;
+        private final long order;
+
+        // The owner and job may be replaced while the job is queued, and are guarded by the pending lock
+        private Object owner;
+        private Runnable job;
+
+        QueuedJob(K key, Object owner, int priority, long order, Runnable job) {
+            this.key = key;
+            this.owner = owner;
+            this.priority = priority;
+            this.order = order;
+            this.job = job;
+        }
+
+        @Override
+        public void run() {
+            // Remove from the pending jobs before running so any request received while running is queued
+            Runnable currentJob;
+            synchronized (pending) {
+                if (!pending.remove(key, this)) {
+                    // The queue has been shutdown or the job cancelled
+                    return;
+                }
+                currentJob = job;
+            }
+            try {
+                currentJob.run();
+            } catch (Exception e) {
+                logger.warn("{}: Exception running {} job", key, name, e);
+            } finally {
+                jobCompleted();
+            }
+        }
+
+        @Override
+        public int compareTo(QueuedJob other) {
+            if (priority != other.priority) {
+                return Integer.compare(priority, other.priority);
+            }
+            return Long.compare(order, other.order);
+        }
+    }
+}
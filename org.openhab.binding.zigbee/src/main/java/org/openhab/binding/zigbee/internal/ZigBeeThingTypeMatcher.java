@@ -16,20 +16,43 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNull;
 import org.openhab.binding.zigbee.ZigBeeBindingConstants;
+import org.openhab.core.OpenHAB;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigDescriptionRegistry;
+import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.type.ThingType;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,16 +75,92 @@ import org.slf4j.LoggerFactory;
  * <li>philips_sml001,vendor=Philips,modelId=SML001
  * <li>smartthings_motionv4,vendor=SmartThings,modelId=motionv4
  * </ul>
+ * <p>
+ * In addition to the properties file included in the binding, any files with the same format and a .txt extension in
+ * the userdata zigbee/discovery folder are read. A thing type defined in one of these files replaces the definition
+ * in the binding, allowing new devices to be matched to existing thing types without updating the binding. If the
+ * matcher is watching the folder, changed files are reloaded and only the thing types defined in the changed file
+ * are updated in the index.
+ * <p>
+ * A single matcher is shared by the handler factory and the discovery participant, so the discovery properties are
+ * only read and watched once.
  *
  * @author Chris Jackson - Initial Implementation
  */
+@Component(service = ZigBeeThingTypeMatcher.class)
 public class ZigBeeThingTypeMatcher {
     private final Logger logger = LoggerFactory.getLogger(ZigBeeThingTypeMatcher.class);
 
-    private final Map<String, List<RequiredProperty>> discoveryProperties = new HashMap<>();
-
     private static final String DISCOVERY_PROPERTIES_FILE = "/discovery.txt";
 
+    /**
+     * Folder, within the userdata zigbee folder, containing additional discovery properties files
+     */
+    private static final String DISCOVERY_PROPERTIES_FOLDER = "discovery";
+    private static final String DISCOVERY_PROPERTIES_EXTENSION = ".txt";
+
+    /**
+     * Period (in seconds) at which the discovery properties folder is checked for changes
+     */
+    private static final long WATCH_PERIOD = 10;
+
+    /**
+     * The index of thing types. The index is never modified - when the discovery properties change, a new index is
+     * created and replaces this one, so the index may be used from any thread without locking.
+     */
+    private volatile ThingTypeIndex index;
+
+    /**
+     * The discovery entries included in the binding, keyed by thing type
+     */
+    private final Map<String, DiscoveryEntry> bundledEntries;
+
+    /**
+     * The discovery entries read from each file in the discovery properties folder. Files are ordered by path so that
+     * if a thing type is defined in multiple files, the last file takes precedence.
+     */
+    private final Map<Path, Map<String, DiscoveryEntry>> externalEntries = new TreeMap<>();
+
+    private final Path externalFolder;
+
+    private WatchService watchService;
+    private ScheduledFuture<?> watchJob;
+
+    /**
+     * Creates the matcher, reading the discovery properties from the binding and the userdata folder, and building
+     * the index
+     */
+    public ZigBeeThingTypeMatcher() {
+        this(Paths.get(OpenHAB.getUserDataFolder(), ZigBeeBindingConstants.BINDING_ID, DISCOVERY_PROPERTIES_FOLDER));
+    }
+
+    /**
+     * Creates the matcher, reading the discovery properties from the binding and the specified folder, and building
+     * the index
+     *
+     * @param externalFolder the {@link Path} of the folder containing additional discovery properties files
+     */
+    ZigBeeThingTypeMatcher(Path externalFolder) {
+        this.externalFolder = externalFolder;
+
+        Map<String, DiscoveryEntry> entries = new LinkedHashMap<>();
+        InputStream input = getClass().getResourceAsStream(DISCOVERY_PROPERTIES_FILE);
+        if (input != null) {
+            entries = readDiscoveryProperties(input, DISCOVERY_PROPERTIES_FILE);
+        }
+        bundledEntries = Collections.unmodifiableMap(entries);
+
+        for (Path file : getExternalFiles()) {
+            externalEntries.put(file, readDiscoveryProperties(file));
+        }
+
+        Map<String, DiscoveryEntry> effectiveEntries = new LinkedHashMap<>(bundledEntries);
+        for (Map<String, DiscoveryEntry> fileEntries : externalEntries.values()) {
+            effectiveEntries.putAll(fileEntries);
+        }
+        index = new ThingTypeIndex(effectiveEntries.values());
+    }
+
     /**
      * Matches a set of properties to a single thing type. If no match is found, null is returned.
      * The matcher checks all registered thing types. If multiple matches are found, null is returned.
@@ -71,26 +170,16 @@ public class ZigBeeThingTypeMatcher {
      *         properties
      */
     public ThingTypeUID matchThingType(Map<String, Object> properties) {
-        // Only create the index once
-        try {
-            readDiscoveryProperties();
-        } catch (IOException exception) {
-            logger.debug("IOException reading ZigBee discovery properties", exception);
-            return null;
-        }
-
         String matchedThingType = null;
 
-        for (Entry<String, List<RequiredProperty>> discoveryThing : discoveryProperties.entrySet()) {
-
-            if (discoveryThing.getValue().stream().allMatch(
-                    requiredProperty -> requiredProperty.value.equals(properties.get(requiredProperty.name)))) {
+        for (DiscoveryEntry discoveryThing : index.getCandidates(properties)) {
+            if (discoveryThing.matches(properties)) {
                 if (matchedThingType != null) {
                     // Don't allow duplicate matches
-                    logger.debug("Duplicate match {} and {}", matchedThingType, discoveryThing.getKey());
+                    logger.debug("Duplicate match {} and {}", matchedThingType, discoveryThing.thingType);
                     return null;
                 }
-                matchedThingType = discoveryThing.getKey();
+                matchedThingType = discoveryThing.thingType;
             }
         }
 
@@ -101,76 +190,393 @@ public class ZigBeeThingTypeMatcher {
         return new ThingTypeUID(ZigBeeBindingConstants.BINDING_ID, matchedThingType);
     }
 
-    private synchronized void readDiscoveryProperties() throws IOException {
-        if (!discoveryProperties.isEmpty()) {
+    /**
+     * Gets a list of thing types supported by this binding
+     *
+     * @return {@link Set} of supported {@link ThingTypeUID}.
+     */
+    public @NonNull Set<@NonNull ThingTypeUID> getSupportedThingTypeUIDs() {
+        return index.thingTypeUIDs;
+    }
+
+    @Activate
+    protected void activate() {
+        startWatching();
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        stopWatching();
+    }
+
+    /**
+     * Starts watching the userdata discovery properties folder for changes. Changes are checked periodically from the
+     * shared scheduler rather than tying up a thread waiting for file system events.
+     */
+    public synchronized void startWatching() {
+        if (watchService != null) {
             return;
         }
-
-        InputStream input = getClass().getResourceAsStream(DISCOVERY_PROPERTIES_FILE);
-        if (input == null) {
+        try {
+            Files.createDirectories(externalFolder);
+            watchService = FileSystems.getDefault().newWatchService();
+            externalFolder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            logger.debug("Unable to watch ZigBee discovery properties folder {}: {}", externalFolder, e.getMessage());
+            stopWatching();
             return;
         }
-        BufferedReader reader = new BufferedReader(new InputStreamReader(input));
 
-        while (reader.ready()) {
-            String line = reader.readLine();
+        watchJob = ThreadPoolManager.getScheduledPool(ZigBeeBindingConstants.TIMER_POOL)
+                .scheduleWithFixedDelay(this::processWatchEvents, WATCH_PERIOD, WATCH_PERIOD, TimeUnit.SECONDS);
+    }
 
-            String[] elements = line.split(",");
-            if (elements.length < 2) {
-                continue;
+    /**
+     * Stops watching the userdata discovery properties folder for changes
+     */
+    public synchronized void stopWatching() {
+        if (watchJob != null) {
+            watchJob.cancel(false);
+            watchJob = null;
+        }
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.debug("Error closing ZigBee discovery properties watcher: {}", e.getMessage());
             }
+            watchService = null;
+        }
+    }
 
-            List<RequiredProperty> newProperties = new ArrayList<>();
-            for (String element : elements) {
-                String discoveryElement[] = element.split("=");
-                if (discoveryElement.length != 2) {
-                    continue;
-                }
+    private synchronized void processWatchEvents() {
+        if (watchService == null) {
+            return;
+        }
 
-                newProperties.add(new RequiredProperty(discoveryElement[0].trim(), unescape(discoveryElement[1]).trim()));
+        Set<Path> changedFiles = new TreeSet<>();
+        boolean overflow = false;
+        try {
+            WatchKey key;
+            while ((key = watchService.poll()) != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        overflow = true;
+                    } else if (event.context() instanceof Path) {
+                        Path file = externalFolder.resolve((Path) event.context());
+                        if (isDiscoveryPropertiesFile(file)) {
+                            changedFiles.add(file);
+                        }
+                    }
+                }
+                key.reset();
             }
+        } catch (ClosedWatchServiceException e) {
+            return;
+        }
+
+        if (overflow) {
+            // Events were lost, so check every file
+            changedFiles.addAll(externalEntries.keySet());
+            changedFiles.addAll(getExternalFiles());
+        }
+        for (Path file : changedFiles) {
+            reloadFile(file);
+        }
+    }
+
+    /**
+     * Reloads a single discovery properties file from the userdata folder. Only the thing types defined in the file,
+     * either before or after the change, are updated in the index.
+     *
+     * @param file the {@link Path} of the file that has changed. If the file no longer exists, the thing types it
+     *            defined are removed or revert to the definitions in the binding.
+     */
+    synchronized void reloadFile(Path file) {
+        Map<String, DiscoveryEntry> newFileEntries = Files.isRegularFile(file) ? readDiscoveryProperties(file)
+                : Collections.emptyMap();
+        Map<String, DiscoveryEntry> oldFileEntries = externalEntries.getOrDefault(file, Collections.emptyMap());
+
+        Set<String> thingTypes = new HashSet<>(oldFileEntries.keySet());
+        thingTypes.addAll(newFileEntries.keySet());
+
+        Map<String, DiscoveryEntry> oldEntries = new HashMap<>();
+        for (String thingType : thingTypes) {
+            oldEntries.put(thingType, getEffectiveEntry(thingType));
+        }
+
+        if (newFileEntries.isEmpty()) {
+            externalEntries.remove(file);
+        } else {
+            externalEntries.put(file, newFileEntries);
+        }
 
-            if (newProperties.isEmpty()) {
+        List<DiscoveryEntry> removed = new ArrayList<>();
+        List<DiscoveryEntry> added = new ArrayList<>();
+        for (String thingType : thingTypes) {
+            DiscoveryEntry oldEntry = oldEntries.get(thingType);
+            DiscoveryEntry newEntry = getEffectiveEntry(thingType);
+            if (Objects.equals(oldEntry, newEntry)) {
                 continue;
             }
+            if (oldEntry != null) {
+                removed.add(oldEntry);
+            }
+            if (newEntry != null) {
+                added.add(newEntry);
+            }
+        }
 
-            discoveryProperties.put(elements[0], newProperties);
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
         }
+        logger.debug("ZigBee discovery properties file {} reloaded: {} thing types removed, {} thing types added", file,
+                removed.size(), added.size());
+        index = index.update(removed, added);
+    }
 
-        reader.close();
+    private DiscoveryEntry getEffectiveEntry(String thingType) {
+        DiscoveryEntry effectiveEntry = bundledEntries.get(thingType);
+        for (Map<String, DiscoveryEntry> fileEntries : externalEntries.values()) {
+            DiscoveryEntry entry = fileEntries.get(thingType);
+            if (entry != null) {
+                effectiveEntry = entry;
+            }
+        }
+        return effectiveEntry;
+    }
 
-        return;
+    private boolean isDiscoveryPropertiesFile(Path file) {
+        return file.getFileName().toString().endsWith(DISCOVERY_PROPERTIES_EXTENSION);
     }
 
-    /**
-     * Gets a list of thing types supported by this binding
-     *
-     * @return {@link Set} of supported {@link ThingTypeUID}.
-     */
-    public @NonNull Set<@NonNull ThingTypeUID> getSupportedThingTypeUIDs() {
+    private List<Path> getExternalFiles() {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(externalFolder)) {
+            return files;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(externalFolder,
+                "*" + DISCOVERY_PROPERTIES_EXTENSION)) {
+            for (Path file : stream) {
+                if (Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("IOException reading ZigBee discovery properties folder {}", externalFolder, e);
+        }
+        Collections.sort(files);
+        return files;
+    }
+
+    private Map<String, DiscoveryEntry> readDiscoveryProperties(Path file) {
         try {
-            readDiscoveryProperties();
-        } catch (IOException exception) {
-            logger.debug("IOException reading ZigBee discovery properties", exception);
-            return Collections.emptySet();
+            return readDiscoveryProperties(Files.newInputStream(file), file.toString());
+        } catch (IOException e) {
+            logger.debug("IOException reading ZigBee discovery properties {}", file, e);
+            return Collections.emptyMap();
         }
+    }
+
+    private Map<String, DiscoveryEntry> readDiscoveryProperties(InputStream input, String source) {
+        Map<String, DiscoveryEntry> discoveryProperties = new LinkedHashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] elements = line.split(",");
+                if (elements.length < 2) {
+                    continue;
+                }
+
+                List<RequiredProperty> newProperties = new ArrayList<>();
+                for (String element : elements) {
+                    String discoveryElement[] = element.split("=");
+                    if (discoveryElement.length != 2) {
+                        continue;
+                    }
+
+                    try {
+                        String value = unescape(discoveryElement[1]).trim();
+                        newProperties.add(new RequiredProperty(discoveryElement[0].trim(), value));
+                    } catch (IllegalArgumentException e) {
+                        // Ignore the whole entry rather than matching on a subset of its properties
+                        logger.debug("Error parsing ZigBee discovery properties for {} in {}: {}", elements[0],
+                                source, e.getMessage());
+                        newProperties.clear();
+                        break;
+                    }
+                }
+
+                if (newProperties.isEmpty()) {
+                    continue;
+                }
 
-        Set<@NonNull ThingTypeUID> thingTypes = new HashSet<>();
-        for (Entry<String, List<RequiredProperty>> thingProperties : discoveryProperties.entrySet()) {
-            thingTypes.add(new ThingTypeUID(ZigBeeBindingConstants.BINDING_ID, thingProperties.getKey()));
+                discoveryProperties.put(elements[0], new DiscoveryEntry(elements[0], newProperties));
+            }
+        } catch (IOException exception) {
+            logger.debug("IOException reading ZigBee discovery properties {}", source, exception);
         }
 
-        return thingTypes;
+        return discoveryProperties;
     }
 
-    private class RequiredProperty {
-        public String name;
-        public String value;
+    private static class RequiredProperty {
+        public final String name;
+        public final String value;
 
         public RequiredProperty(String name, String value) {
             this.name = name;
             this.value = value;
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof RequiredProperty)) {
+                return false;
+            }
+            RequiredProperty other = (RequiredProperty) obj;
+            return name.equals(other.name) && value.equals(other.value);
+        }
+    }
+
+    /**
+     * A single thing type definition from the discovery properties
+     */
+    private static class DiscoveryEntry {
+        private final String thingType;
+        private final List<RequiredProperty> requiredProperties;
+
+        private DiscoveryEntry(String thingType, List<RequiredProperty> requiredProperties) {
+            this.thingType = thingType;
+            this.requiredProperties = List.copyOf(requiredProperties);
+        }
+
+        private boolean matches(Map<String, Object> properties) {
+            return requiredProperties.stream().allMatch(
+                    requiredProperty -> requiredProperty.value.equals(properties.get(requiredProperty.name)));
+        }
+
+        private String getRequiredValue(String name) {
+            for (RequiredProperty requiredProperty : requiredProperties) {
+                if (requiredProperty.name.equals(name)) {
+                    return requiredProperty.value;
+                }
+            }
+            return null;
+        }
+
+        private List<String> getIndexKey() {
+            return ThingTypeIndex.createKey(getRequiredValue(Thing.PROPERTY_VENDOR),
+                    getRequiredValue(Thing.PROPERTY_MODEL_ID));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(thingType, requiredProperties);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DiscoveryEntry)) {
+                return false;
+            }
+            DiscoveryEntry other = (DiscoveryEntry) obj;
+            return thingType.equals(other.thingType) && requiredProperties.equals(other.requiredProperties);
+        }
+    }
+
+    /**
+     * An immutable index of the thing types keyed by the vendor and model ID. Thing types that don't require a vendor
+     * or model ID are indexed with a null key for that property, so a lookup only needs to check the four combinations
+     * of the device vendor and model ID, with and without each property. All other required properties are then
+     * checked against the candidates found in the index.
+     */
+    private static class ThingTypeIndex {
+        private final Map<List<String>, List<DiscoveryEntry>> entries;
+        private final Set<@NonNull ThingTypeUID> thingTypeUIDs;
+
+        private ThingTypeIndex(Collection<DiscoveryEntry> discoveryEntries) {
+            this(Collections.emptyMap(), Collections.emptySet(), Collections.emptyList(), discoveryEntries);
+        }
+
+        private ThingTypeIndex(Map<List<String>, List<DiscoveryEntry>> currentEntries,
+                Set<@NonNull ThingTypeUID> currentThingTypeUIDs, Collection<DiscoveryEntry> removed,
+                Collection<DiscoveryEntry> added) {
+            Map<List<String>, List<DiscoveryEntry>> newEntries = new HashMap<>(currentEntries);
+            Set<@NonNull ThingTypeUID> newThingTypeUIDs = new HashSet<>(currentThingTypeUIDs);
+
+            // Only the index keys of the changed entries are rebuilt - all other entries are shared with the
+            // current index
+            for (DiscoveryEntry entry : removed) {
+                List<DiscoveryEntry> keyEntries = new ArrayList<>(
+                        newEntries.getOrDefault(entry.getIndexKey(), Collections.emptyList()));
+                keyEntries.remove(entry);
+                if (keyEntries.isEmpty()) {
+                    newEntries.remove(entry.getIndexKey());
+                } else {
+                    newEntries.put(entry.getIndexKey(), Collections.unmodifiableList(keyEntries));
+                }
+                newThingTypeUIDs.remove(new ThingTypeUID(ZigBeeBindingConstants.BINDING_ID, entry.thingType));
+            }
+            for (DiscoveryEntry entry : added) {
+                List<DiscoveryEntry> keyEntries = new ArrayList<>(
+                        newEntries.getOrDefault(entry.getIndexKey(), Collections.emptyList()));
+                keyEntries.add(entry);
+                newEntries.put(entry.getIndexKey(), Collections.unmodifiableList(keyEntries));
+                newThingTypeUIDs.add(new ThingTypeUID(ZigBeeBindingConstants.BINDING_ID, entry.thingType));
+            }
+
+            entries = Collections.unmodifiableMap(newEntries);
+            thingTypeUIDs = Collections.unmodifiableSet(newThingTypeUIDs);
+        }
+
+        /**
+         * Creates a new index from this index with entries removed and added
+         *
+         * @param removed the entries to remove
+         * @param added the entries to add
+         * @return the new {@link ThingTypeIndex}
+         */
+        private ThingTypeIndex update(Collection<DiscoveryEntry> removed, Collection<DiscoveryEntry> added) {
+            return new ThingTypeIndex(entries, thingTypeUIDs, removed, added);
+        }
+
+        private static List<String> createKey(String vendor, String modelId) {
+            return Arrays.asList(vendor, modelId);
+        }
+
+        private List<DiscoveryEntry> getCandidates(Map<String, Object> properties) {
+            Object vendor = properties.get(Thing.PROPERTY_VENDOR);
+            Object modelId = properties.get(Thing.PROPERTY_MODEL_ID);
+
+            List<DiscoveryEntry> candidates = new ArrayList<>();
+            for (String vendorKey : keyValues(vendor)) {
+                for (String modelIdKey : keyValues(modelId)) {
+                    candidates.addAll(entries.getOrDefault(createKey(vendorKey, modelIdKey), Collections.emptyList()));
+                }
+            }
+            return candidates;
+        }
+
+        private static List<String> keyValues(Object value) {
+            if (value instanceof String) {
+                return Arrays.asList((String) value, null);
+            }
+            return Collections.singletonList(null);
+        }
     }
 
     /**
@@ -12,14 +12,11 @@
  */
 package org.openhab.binding.zigbee.internal.converter;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeSet;
 
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ThingUID;
@@ -45,9 +42,10 @@ public final class ZigBeeChannelConverterFactoryImpl implements ZigBeeChannelCon
     private final Logger logger = LoggerFactory.getLogger(ZigBeeChannelConverterFactoryImpl.class);
 
     /**
-     * Map of all channels supported by the binding
+     * The registry of all channels supported by the binding. The registry is immutable and is replaced when converter
+     * providers are added or removed, so it can be read without locking.
      */
-    private final Map<ChannelTypeUID, Class<? extends ZigBeeBaseChannelConverter>> channelMap = new HashMap<>();
+    private volatile ZigBeeChannelConverterRegistry registry = ZigBeeChannelConverterRegistry.EMPTY;
 
     /**
      * Map of all channels to be consolidated. Note that order is important.
@@ -69,22 +67,16 @@ public final class ZigBeeChannelConverterFactoryImpl implements ZigBeeChannelCon
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public Collection<Channel> getChannels(ThingUID thingUID, ZigBeeEndpoint endpoint) {
         Map<ChannelTypeUID, Channel> channels = new HashMap<>();
 
-        Constructor<? extends ZigBeeBaseChannelConverter> constructor;
-        for (Class<?> converterClass : channelMap.values()) {
+        for (ZigBeeChannelConverterMetadata metadata : registry.getCandidateConverters(endpoint)) {
             try {
-                constructor = (Constructor<? extends ZigBeeBaseChannelConverter>) converterClass.getConstructor();
-                ZigBeeBaseChannelConverter converter = constructor.newInstance();
-
-                Channel channel = converter.getChannel(thingUID, endpoint);
+                Channel channel = metadata.createConverter().getChannel(thingUID, endpoint);
                 if (channel != null) {
                     channels.put(channel.getChannelTypeUID(), channel);
                 }
-            } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
-                    | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            } catch (RuntimeException e) {
                 logger.debug("{}: Exception while getting channels: ", endpoint.getIeeeAddress(), e);
             }
         }
@@ -105,15 +97,14 @@ public final class ZigBeeChannelConverterFactoryImpl implements ZigBeeChannelCon
     @Override
     public ZigBeeBaseChannelConverter createConverter(Channel channel, ZigBeeCoordinatorHandler coordinatorHandler,
             IeeeAddress ieeeAddress, int endpointId) {
-        Constructor<? extends ZigBeeBaseChannelConverter> constructor;
         try {
-            if (channelMap.get(channel.getChannelTypeUID()) == null) {
+            ZigBeeChannelConverterMetadata metadata = registry.getConverter(channel.getChannelTypeUID());
+            if (metadata == null) {
                 logger.debug("{}: Channel converter for channel type {} is not implemented!", ieeeAddress,
                         channel.getUID().getId());
                 return null;
             }
-            constructor = channelMap.get(channel.getChannelTypeUID()).getConstructor();
-            ZigBeeBaseChannelConverter instance = constructor.newInstance();
+            ZigBeeBaseChannelConverter instance = metadata.createConverter();
 
             instance.initialize(channel, coordinatorHandler, ieeeAddress, endpointId);
             return instance;
@@ -125,12 +116,23 @@ public final class ZigBeeChannelConverterFactoryImpl implements ZigBeeChannelCon
     }
 
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
-    public void addZigBeeChannelConverterProvider(ZigBeeChannelConverterProvider zigBeeChannelConverterProvider) {
-        channelMap.putAll(zigBeeChannelConverterProvider.getChannelConverters());
+    public synchronized void addZigBeeChannelConverterProvider(
+            ZigBeeChannelConverterProvider zigBeeChannelConverterProvider) {
+        Map<ChannelTypeUID, ZigBeeChannelConverterMetadata> converters = new HashMap<>();
+        zigBeeChannelConverterProvider.getChannelConverters().forEach((channelTypeUID, converterClass) -> {
+            try {
+                converters.put(channelTypeUID, ZigBeeChannelConverterMetadata.create(channelTypeUID, converterClass));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                logger.error("Unable to register channel converter {} for channel type {}", converterClass,
+                        channelTypeUID, e);
+            }
+        });
+        registry = registry.withConverters(converters);
     }
 
-    public void removeZigBeeChannelConverterProvider(ZigBeeChannelConverterProvider zigBeeChannelConverterProvider) {
-        channelMap.keySet().removeAll(zigBeeChannelConverterProvider.getChannelConverters().keySet());
+    public synchronized void removeZigBeeChannelConverterProvider(
+            ZigBeeChannelConverterProvider zigBeeChannelConverterProvider) {
+        registry = registry.withoutConverters(zigBeeChannelConverterProvider.getChannelConverters().keySet());
     }
 
     /**
@@ -140,19 +142,7 @@ public final class ZigBeeChannelConverterFactoryImpl implements ZigBeeChannelCon
      */
     @Override
     public Set<Integer> getImplementedClientClusters() {
-        Set<Integer> clusters = new TreeSet<>();
-        try {
-            for (Class<? extends ZigBeeBaseChannelConverter> converter : channelMap.values()) {
-                Constructor<? extends ZigBeeBaseChannelConverter> constructor = converter.getConstructor();
-                ZigBeeBaseChannelConverter instance = constructor.newInstance();
-
-                clusters.addAll(instance.getImplementedClientClusters());
-            }
-        } catch (Exception e) {
-            logger.error("Unable to consolidate client cluster IDs", e);
-        }
-
-        return clusters;
+        return registry.getImplementedClientClusters();
     }
 
     /**
@@ -162,19 +152,6 @@ public final class ZigBeeChannelConverterFactoryImpl implements ZigBeeChannelCon
      */
     @Override
     public Set<Integer> getImplementedServerClusters() {
-        Set<Integer> clusters = new TreeSet<>();
-        try {
-            for (Class<? extends ZigBeeBaseChannelConverter> converter : channelMap.values()) {
-                Constructor<? extends ZigBeeBaseChannelConverter> constructor = converter.getConstructor();
-                ZigBeeBaseChannelConverter instance = constructor.newInstance();
-
-                clusters.addAll(instance.getImplementedServerClusters());
-            }
-        } catch (Exception e) {
-            logger.error("Unable to consolidate server cluster IDs", e);
-        }
-
-        return clusters;
+        return registry.getImplementedServerClusters();
     }
-
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zigbee.internal.converter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.openhab.binding.zigbee.converter.ZigBeeBaseChannelConverter;
+import org.openhab.core.thing.type.ChannelTypeUID;
+
+/**
+ * Holds the information about a channel converter that the {@link ZigBeeChannelConverterFactoryImpl} requires. This is
+ * created once when the converter is registered so that the converter class does not need to be reflectively
+ * instantiated every time the factory needs to know which clusters it supports.
+ *
+ * @author Chris Jackson - Initial contribution
+ */
+final class ZigBeeChannelConverterMetadata {
+    private final ChannelTypeUID channelTypeUID;
+    private final Class<? extends ZigBeeBaseChannelConverter> converterClass;
+    private final Supplier<ZigBeeBaseChannelConverter> factory;
+    private final Set<Integer> clientClusters;
+    private final Set<Integer> serverClusters;
+    private final Set<Integer> requiredInputClusters;
+    private final Set<Integer> requiredOutputClusters;
+
+    private ZigBeeChannelConverterMetadata(ChannelTypeUID channelTypeUID,
+            Class<? extends ZigBeeBaseChannelConverter> converterClass, Supplier<ZigBeeBaseChannelConverter> factory,
+            ZigBeeBaseChannelConverter instance) {
+        this.channelTypeUID = channelTypeUID;
+        this.converterClass = converterClass;
+        this.factory = factory;
+        this.clientClusters = copyOf(instance.getImplementedClientClusters());
+        this.serverClusters = copyOf(instance.getImplementedServerClusters());
+        this.requiredInputClusters = copyOf(instance.getRequiredInputClusters());
+        this.requiredOutputClusters = copyOf(instance.getRequiredOutputClusters());
+    }
+
+    /**
+     * Creates the metadata for a converter. The converter constructor is resolved once, and a single instance of the
+     * converter is created to read the clusters it implements and requires.
+     *
+     * @param channelTypeUID the {@link ChannelTypeUID} the converter is registered for
+     * @param converterClass the converter class. This must have a public constructor with no arguments.
+     * @return the {@link ZigBeeChannelConverterMetadata}
+     * @throws ReflectiveOperationException if the converter constructor can not be found
+     */
+    static ZigBeeChannelConverterMetadata create(ChannelTypeUID channelTypeUID,
+            Class<? extends ZigBeeBaseChannelConverter> converterClass) throws ReflectiveOperationException {
+        MethodHandle constructor = MethodHandles.publicLookup().findConstructor(converterClass,
+                MethodType.methodType(void.class));
+        Supplier<ZigBeeBaseChannelConverter> factory = () -> {
+            try {
+                return (ZigBeeBaseChannelConverter) constructor.invoke();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Unable to create converter " + converterClass.getSimpleName(), e);
+            }
+        };
+
+        return new ZigBeeChannelConverterMetadata(channelTypeUID, converterClass, factory, factory.get());
+    }
+
+    private static Set<Integer> copyOf(Set<Integer> clusters) {
+        return clusters == null ? Collections.emptySet() : Set.copyOf(clusters);
+    }
+
+    /**
+     * Gets the {@link ChannelTypeUID} the converter is registered for
+     *
+     * @return the {@link ChannelTypeUID}
+     */
+    ChannelTypeUID getChannelTypeUID() {
+        return channelTypeUID;
+    }
+
+    /**
+     * Gets the converter class
+     *
+     * @return the converter class
+     */
+    Class<? extends ZigBeeBaseChannelConverter> getConverterClass() {
+        return converterClass;
+    }
+
+    /**
+     * Creates a new instance of the converter
+     *
+     * @return a new {@link ZigBeeBaseChannelConverter}
+     */
+    ZigBeeBaseChannelConverter createConverter() {
+        return factory.get();
+    }
+
+    /**
+     * Gets the client cluster IDs implemented by the converter. These are the clusters the converter uses as input
+     * clusters on the remote endpoint.
+     *
+     * @return the unmodifiable set of client cluster IDs
+     */
+    Set<Integer> getClientClusters() {
+        return clientClusters;
+    }
+
+    /**
+     * Gets the server cluster IDs implemented by the converter. These are the clusters the converter uses as output
+     * clusters on the remote endpoint.
+     *
+     * @return the unmodifiable set of server cluster IDs
+     */
+    Set<Integer> getServerClusters() {
+        return serverClusters;
+    }
+
+    /**
+     * Gets the input cluster IDs, one of which an endpoint must implement for the converter to provide a channel
+     *
+     * @return the unmodifiable set of input cluster IDs
+     */
+    Set<Integer> getRequiredInputClusters() {
+        return requiredInputClusters;
+    }
+
+    /**
+     * Gets the output cluster IDs, one of which an endpoint must implement for the converter to provide a channel
+     *
+     * @return the unmodifiable set of output cluster IDs
+     */
+    Set<Integer> getRequiredOutputClusters() {
+        return requiredOutputClusters;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zigbee.internal.converter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.openhab.core.thing.type.ChannelTypeUID;
+
+import com.zsmartsystems.zigbee.ZigBeeEndpoint;
+
+/**
+ * An immutable snapshot of the channel converters known to the {@link ZigBeeChannelConverterFactoryImpl}, along with
+ * the cluster index used to find the converters that may support an endpoint.
+ * <p>
+ * Since the registry is never modified once it is created, it may be read concurrently without locking. When
+ * converters are added or removed a new registry is created, and the factory atomically replaces its reference to the
+ * registry. Readers that are using the previous registry continue to see a consistent set of converters.
+ *
+ * @author Chris Jackson - Initial contribution
+ */
+final class ZigBeeChannelConverterRegistry {
+    /**
+     * A registry with no converters
+     */
+    static final ZigBeeChannelConverterRegistry EMPTY = new ZigBeeChannelConverterRegistry(Collections.emptyMap());
+
+    /**
+     * Map of all channels supported by the binding, and the metadata of the converter that implements the channel
+     */
+    private final Map<ChannelTypeUID, ZigBeeChannelConverterMetadata> channelMap;
+
+    /**
+     * Index of converters by the input clusters they require. A converter can only provide a channel if the endpoint
+     * has one of its required input or output clusters.
+     */
+    private final Map<Integer, List<ZigBeeChannelConverterMetadata>> inputClusterIndex;
+
+    /**
+     * Index of converters by the output clusters they require
+     */
+    private final Map<Integer, List<ZigBeeChannelConverterMetadata>> outputClusterIndex;
+
+    /**
+     * Converters that do not declare any required clusters, and therefore must be checked for every endpoint
+     */
+    private final List<ZigBeeChannelConverterMetadata> unindexedConverters;
+
+    /**
+     * The client and server cluster IDs implemented by all converters
+     */
+    private final Set<Integer> implementedClientClusters;
+    private final Set<Integer> implementedServerClusters;
+
+    private ZigBeeChannelConverterRegistry(Map<ChannelTypeUID, ZigBeeChannelConverterMetadata> channelMap) {
+        Map<Integer, List<ZigBeeChannelConverterMetadata>> inputIndex = new HashMap<>();
+        Map<Integer, List<ZigBeeChannelConverterMetadata>> outputIndex = new HashMap<>();
+        List<ZigBeeChannelConverterMetadata> unindexed = new ArrayList<>();
+        Set<Integer> clientClusters = new TreeSet<>();
+        Set<Integer> serverClusters = new TreeSet<>();
+
+        for (ZigBeeChannelConverterMetadata metadata : channelMap.values()) {
+            clientClusters.addAll(metadata.getClientClusters());
+            serverClusters.addAll(metadata.getServerClusters());
+
+            if (metadata.getRequiredInputClusters().isEmpty() && metadata.getRequiredOutputClusters().isEmpty()) {
+                unindexed.add(metadata);
+                continue;
+            }
+            for (Integer clusterId : metadata.getRequiredInputClusters()) {
+                inputIndex.computeIfAbsent(clusterId, k -> new ArrayList<>()).add(metadata);
+            }
+            for (Integer clusterId : metadata.getRequiredOutputClusters()) {
+                outputIndex.computeIfAbsent(clusterId, k -> new ArrayList<>()).add(metadata);
+            }
+        }
+
+        this.channelMap = Map.copyOf(channelMap);
+        this.inputClusterIndex = copyOf(inputIndex);
+        this.outputClusterIndex = copyOf(outputIndex);
+        this.unindexedConverters = List.copyOf(unindexed);
+        this.implementedClientClusters = Collections.unmodifiableSet(clientClusters);
+        this.implementedServerClusters = Collections.unmodifiableSet(serverClusters);
+    }
+
+    private static Map<Integer, List<ZigBeeChannelConverterMetadata>> copyOf(
+            Map<Integer, List<ZigBeeChannelConverterMetadata>> index) {
+        Map<Integer, List<ZigBeeChannelConverterMetadata>> copy = new HashMap<>();
+        for (Map.Entry<Integer, List<ZigBeeChannelConverterMetadata>> entry : index.entrySet()) {
+            copy.put(entry.getKey(), List.copyOf(entry.getValue()));
+        }
+        return Map.copyOf(copy);
+    }
+
+    /**
+     * Creates a new registry containing the converters in this registry, along with the added converters. Added
+     * converters replace any existing converter for the same channel type.
+     *
+     * @param converters the converters to add
+     * @return the new {@link ZigBeeChannelConverterRegistry}
+     */
+    ZigBeeChannelConverterRegistry withConverters(Map<ChannelTypeUID, ZigBeeChannelConverterMetadata> converters) {
+        Map<ChannelTypeUID, ZigBeeChannelConverterMetadata> newChannelMap = new HashMap<>(channelMap);
+        newChannelMap.putAll(converters);
+        return new ZigBeeChannelConverterRegistry(newChannelMap);
+    }
+
+    /**
+     * Creates a new registry containing the converters in this registry, less the converters for the channel types
+     * provided.
+     *
+     * @param channelTypeUIDs the channel types to remove
+     * @return the new {@link ZigBeeChannelConverterRegistry}
+     */
+    ZigBeeChannelConverterRegistry withoutConverters(Collection<ChannelTypeUID> channelTypeUIDs) {
+        Map<ChannelTypeUID, ZigBeeChannelConverterMetadata> newChannelMap = new HashMap<>(channelMap);
+        newChannelMap.keySet().removeAll(channelTypeUIDs);
+        return new ZigBeeChannelConverterRegistry(newChannelMap);
+    }
+
+    /**
+     * Gets the converter for a channel type
+     *
+     * @param channelTypeUID the {@link ChannelTypeUID}
+     * @return the {@link ZigBeeChannelConverterMetadata} or null if no converter is registered for the channel type
+     */
+    ZigBeeChannelConverterMetadata getConverter(ChannelTypeUID channelTypeUID) {
+        return channelMap.get(channelTypeUID);
+    }
+
+    /**
+     * Gets the converters that may provide a channel for the endpoint. The clusters implemented by the endpoint are
+     * looked up in the cluster index so that only converters that require one of the endpoint clusters are returned,
+     * along with any converters that do not declare the clusters they require.
+     *
+     * @param endpoint the {@link ZigBeeEndpoint}
+     * @return the set of {@link ZigBeeChannelConverterMetadata} for converters that may support the endpoint
+     */
+    Set<ZigBeeChannelConverterMetadata> getCandidateConverters(ZigBeeEndpoint endpoint) {
+        Set<ZigBeeChannelConverterMetadata> candidates = new HashSet<>(unindexedConverters);
+        for (Integer clusterId : endpoint.getInputClusterIds()) {
+            candidates.addAll(inputClusterIndex.getOrDefault(clusterId, Collections.emptyList()));
+        }
+        for (Integer clusterId : endpoint.getOutputClusterIds()) {
+            candidates.addAll(outputClusterIndex.getOrDefault(clusterId, Collections.emptyList()));
+        }
+        return candidates;
+    }
+
+    /**
+     * Gets the client cluster IDs implemented by all converters
+     *
+     * @return the unmodifiable set of cluster IDs, ordered by ascending ID
+     */
+    Set<Integer> getImplementedClientClusters() {
+        return implementedClientClusters;
+    }
+
+    /**
+     * Gets the server cluster IDs implemented by all converters
+     *
+     * @return the unmodifiable set of cluster IDs, ordered by ascending ID
+     */
+    Set<Integer> getImplementedServerClusters() {
+        return implementedServerClusters;
+    }
+}
@@ -87,7 +87,7 @@ public class ZigBeeConverterAtmosphericPressure extends ZigBeeBaseChannelConvert
                 // Configure reporting - no faster than once per second - no slower than 2 hours.
                 CommandResult reportingResponse;
                 if (enhancedScale != null) {
-                    reportingResponse = serverCluster.setReporting(serverCluster.getAttribute(ATTR_SCALEDVALUE), 1,
+                    reportingResponse = setReporting(serverCluster.getAttribute(ATTR_SCALEDVALUE), 1,
                             REPORTING_PERIOD_DEFAULT_MAX, 0.1).get();
                     handleReportingResponse(reportingResponse, POLLING_PERIOD_DEFAULT, REPORTING_PERIOD_DEFAULT_MAX);
                 } else {
@@ -95,10 +95,8 @@ public class ZigBeeConverterBatteryAlarm extends ZigBeeBaseChannelConverter impl
         try {
             CommandResult bindResponse = bind(serverCluster).get();
             if (bindResponse.isSuccess()) {
-                CommandResult reportingResponse = serverCluster
-                        .setReporting(serverCluster.getAttribute(ATTR_BATTERYALARMSTATE),
-                                ALARMSTATE_MIN_REPORTING_INTERVAL, ALARMSTATE_MAX_REPORTING_INTERVAL)
-                        .get();
+                CommandResult reportingResponse = setReporting(serverCluster.getAttribute(ATTR_BATTERYALARMSTATE),
+                        ALARMSTATE_MIN_REPORTING_INTERVAL, ALARMSTATE_MAX_REPORTING_INTERVAL).get();
                 handleReportingResponse(reportingResponse, BATTERY_ALARM_POLLING_PERIOD,
                         ALARMSTATE_MAX_REPORTING_INTERVAL);
             } else {
@@ -71,10 +71,9 @@ public class ZigBeeConverterBatteryPercent extends ZigBeeBaseChannelConverter im
             CommandResult bindResponse = bind(serverCluster).get();
             if (bindResponse.isSuccess()) {
                 // Configure reporting - no faster than once per ten minutes - no slower than every 2 hours.
-                CommandResult reportingResponse = serverCluster
-                        .setReporting(serverCluster.getAttribute(ATTR_BATTERYPERCENTAGEREMAINING), 600,
-                                REPORTING_PERIOD_DEFAULT_MAX, 1)
-                        .get();
+                CommandResult reportingResponse = setReporting(
+                        serverCluster.getAttribute(ATTR_BATTERYPERCENTAGEREMAINING), 600, REPORTING_PERIOD_DEFAULT_MAX,
+                        1).get();
 
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_HIGH, REPORTING_PERIOD_DEFAULT_MAX);
             } else {
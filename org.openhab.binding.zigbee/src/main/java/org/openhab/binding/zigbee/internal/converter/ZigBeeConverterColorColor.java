@@ -17,10 +17,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -84,10 +83,22 @@ public class ZigBeeConverterColorColor extends ZigBeeBaseChannelConverter implem
 
     private boolean delayedColorChange = false; // Wait for brightness transition before changing color
 
-    private ScheduledExecutorService colorUpdateScheduler;
+    /**
+     * Time (in milliseconds) to wait for the brightness transition before changing the color
+     */
+    private static final long DELAYED_COLOR_CHANGE_TIME = 1100;
+
     private ScheduledFuture<?> colorUpdateTimer = null;
     private Object colorUpdateSync = new Object();
 
+    /**
+     * The delayed color change waiting for the brightness transition to complete, and the future completed with its
+     * response
+     */
+    private ScheduledFuture<?> delayedColorChangeTimer = null;
+    private CompletableFuture<CommandResult> delayedColorChangeResult = null;
+    private Object delayedColorChangeSync = new Object();
+
     private boolean supportsHue = false;
 
     private int lastHue = -1;
@@ -120,6 +131,11 @@ public class ZigBeeConverterColorColor extends ZigBeeBaseChannelConverter implem
         return Collections.emptySet();
     }
 
+    @Override
+    public Set<Integer> getRequiredInputClusters() {
+        return Collections.singleton(ZclColorControlCluster.CLUSTER_ID);
+    }
+
     @Override
     public boolean initializeDevice() {
         ZclColorControlCluster serverClusterColorControl = (ZclColorControlCluster) endpoint
@@ -136,30 +152,41 @@ public class ZigBeeConverterColorColor extends ZigBeeBaseChannelConverter implem
         try {
             CommandResult bindResponse = bind(serverClusterColorControl).get();
             if (bindResponse.isSuccess()) {
+                // Read the current reporting configuration of all attributes in one request
+                if (supportsHue) {
+                    readReportingConfiguration(serverClusterColorControl, ZclColorControlCluster.ATTR_CURRENTHUE,
+                            ZclColorControlCluster.ATTR_CURRENTSATURATION, ZclColorControlCluster.ATTR_COLORMODE);
+                } else {
+                    readReportingConfiguration(serverClusterColorControl, ZclColorControlCluster.ATTR_CURRENTX,
+                            ZclColorControlCluster.ATTR_CURRENTY, ZclColorControlCluster.ATTR_COLORMODE);
+                }
+
                 CommandResult reportingResponse;
                 if (supportsHue) {
-                    reportingResponse = serverClusterColorControl
-                            .setReporting(ZclColorControlCluster.ATTR_CURRENTHUE, 1, REPORTING_PERIOD_DEFAULT_MAX, 1)
-                            .get();
+                    reportingResponse = setReporting(
+                            serverClusterColorControl.getAttribute(ZclColorControlCluster.ATTR_CURRENTHUE), 1,
+                            REPORTING_PERIOD_DEFAULT_MAX, 1).get();
                     handleReportingResponse(reportingResponse, POLLING_PERIOD_HIGH, REPORTING_PERIOD_DEFAULT_MAX);
 
-                    reportingResponse = serverClusterColorControl.setReporting(
-                            ZclColorControlCluster.ATTR_CURRENTSATURATION, 1, REPORTING_PERIOD_DEFAULT_MAX, 1).get();
+                    reportingResponse = setReporting(
+                            serverClusterColorControl.getAttribute(ZclColorControlCluster.ATTR_CURRENTSATURATION), 1,
+                            REPORTING_PERIOD_DEFAULT_MAX, 1).get();
                     handleReportingResponse(reportingResponse, POLLING_PERIOD_HIGH, REPORTING_PERIOD_DEFAULT_MAX);
                 } else {
-                    reportingResponse = serverClusterColorControl
-                            .setReporting(ZclColorControlCluster.ATTR_CURRENTX, 1, REPORTING_PERIOD_DEFAULT_MAX, 1)
-                            .get();
+                    reportingResponse = setReporting(
+                            serverClusterColorControl.getAttribute(ZclColorControlCluster.ATTR_CURRENTX), 1,
+                            REPORTING_PERIOD_DEFAULT_MAX, 1).get();
                     handleReportingResponse(reportingResponse, POLLING_PERIOD_HIGH, REPORTING_PERIOD_DEFAULT_MAX);
 
-                    reportingResponse = serverClusterColorControl
-                            .setReporting(ZclColorControlCluster.ATTR_CURRENTY, 1, REPORTING_PERIOD_DEFAULT_MAX, 1)
-                            .get();
+                    reportingResponse = setReporting(
+                            serverClusterColorControl.getAttribute(ZclColorControlCluster.ATTR_CURRENTY), 1,
+                            REPORTING_PERIOD_DEFAULT_MAX, 1).get();
                     handleReportingResponse(reportingResponse, POLLING_PERIOD_HIGH, REPORTING_PERIOD_DEFAULT_MAX);
                 }
 
-                reportingResponse = serverClusterColorControl
-                        .setReporting(ZclColorControlCluster.ATTR_COLORMODE, 1, REPORTING_PERIOD_DEFAULT_MAX, 1).get();
+                reportingResponse = setReporting(
+                        serverClusterColorControl.getAttribute(ZclColorControlCluster.ATTR_COLORMODE), 1,
+                        REPORTING_PERIOD_DEFAULT_MAX, 1).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_HIGH, REPORTING_PERIOD_DEFAULT_MAX);
             } else {
                 logger.error("{}: Error 0x{} setting server binding", endpoint.getIeeeAddress(),
@@ -182,9 +209,9 @@ public class ZigBeeConverterColorColor extends ZigBeeBaseChannelConverter implem
                     pollingPeriod = POLLING_PERIOD_HIGH;
                 }
 
-                CommandResult reportingResponse = serverClusterLevelControl
-                        .setReporting(ZclLevelControlCluster.ATTR_CURRENTLEVEL, 1, REPORTING_PERIOD_DEFAULT_MAX, 1)
-                        .get();
+                CommandResult reportingResponse = setReporting(
+                        serverClusterLevelControl.getAttribute(ZclLevelControlCluster.ATTR_CURRENTLEVEL), 1,
+                        REPORTING_PERIOD_DEFAULT_MAX, 1).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_HIGH, REPORTING_PERIOD_DEFAULT_MAX);
             } catch (ExecutionException | InterruptedException e) {
                 logger.debug("{}: Exception configuring level reporting", endpoint.getIeeeAddress(), e);
@@ -200,8 +227,9 @@ public class ZigBeeConverterColorColor extends ZigBeeBaseChannelConverter implem
                 if (!bindResponse.isSuccess()) {
                     pollingPeriod = POLLING_PERIOD_HIGH;
                 }
-                CommandResult reportingResponse = serverClusterOnOff
-                        .setReporting(ZclOnOffCluster.ATTR_ONOFF, 1, REPORTING_PERIOD_DEFAULT_MAX).get();
+                CommandResult reportingResponse = setReporting(
+                        serverClusterOnOff.getAttribute(ZclOnOffCluster.ATTR_ONOFF), 1,
+                        REPORTING_PERIOD_DEFAULT_MAX).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_HIGH, REPORTING_PERIOD_DEFAULT_MAX);
             } catch (ExecutionException | InterruptedException e) {
                 logger.debug("{}: Exception configuring on/off reporting", endpoint.getIeeeAddress(), e);
@@ -215,7 +243,6 @@ public class ZigBeeConverterColorColor extends ZigBeeBaseChannelConverter implem
     @Override
     public boolean initializeConverter(ZigBeeThingHandler thing) {
         super.initializeConverter(thing);
-        colorUpdateScheduler = Executors.newSingleThreadScheduledExecutor();
         clusterColorControl = (ZclColorControlCluster) endpoint.getInputCluster(ZclColorControlCluster.CLUSTER_ID);
         if (clusterColorControl == null) {
             logger.error("{}: Error opening device color controls", endpoint.getIeeeAddress());
@@ -258,12 +285,12 @@ public class ZigBeeConverterColorColor extends ZigBeeBaseChannelConverter implem
 
     @Override
     public void disposeConverter() {
-        // Stop the timer and shutdown the scheduler
+        // Stop the timers
         if (colorUpdateTimer != null) {
-            colorUpdateTimer.cancel(true);
+            colorUpdateTimer.cancel(false);
             colorUpdateTimer = null;
         }
-        colorUpdateScheduler.shutdownNow();
+        cancelDelayedColorChange();
 
         clusterColorControl.removeAttributeListener(this);
 
@@ -277,7 +304,7 @@ public class ZigBeeConverterColorColor extends ZigBeeBaseChannelConverter implem
 
         synchronized (colorUpdateSync) {
             if (colorUpdateTimer != null) {
-                colorUpdateTimer.cancel(true);
+                colorUpdateTimer.cancel(false);
             }
         }
     }
@@ -376,8 +403,86 @@ public class ZigBeeConverterColorColor extends ZigBeeBaseChannelConverter implem
                 .sendCommand(new MoveToColorCommand(x, y, configLevelControl.getDefaultTransitionTime()));
     }
 
+    private Future<CommandResult> changeColor(HSBType color) throws InterruptedException, ExecutionException {
+        if (supportsHue) {
+            return changeColorHueSaturation(color);
+        } else {
+            return changeColorXY(color);
+        }
+    }
+
+    /**
+     * Changes the color after a delay without blocking the calling thread. Any delayed color change that has not yet
+     * been sent is cancelled.
+     *
+     * @param color the {@link HSBType} to change to
+     * @param delay the delay in milliseconds before the color command is sent
+     * @return a {@link Future} that completes with the response to the color command
+     */
+    private Future<CommandResult> scheduleColorChange(HSBType color, long delay) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        synchronized (delayedColorChangeSync) {
+            cancelDelayedColorChange();
+            delayedColorChangeResult = result;
+            delayedColorChangeTimer = getTimerService().schedule(() -> {
+                synchronized (delayedColorChangeSync) {
+                    if (result.isDone()) {
+                        // Cancelled by a newer command
+                        return;
+                    }
+                    delayedColorChangeTimer = null;
+                    delayedColorChangeResult = null;
+                }
+                try {
+                    Future<CommandResult> future = changeColor(color);
+                    if (future == null) {
+                        result.completeExceptionally(new IllegalStateException("Color command not sent"));
+                        return;
+                    }
+                    toCompletableFuture(future).whenComplete((response, exception) -> {
+                        if (exception != null) {
+                            result.completeExceptionally(exception);
+                        } else {
+                            result.complete(response);
+                        }
+                    });
+                } catch (Exception e) {
+                    logger.debug("{}: Exception sending delayed color change", endpoint.getIeeeAddress(), e);
+                    result.completeExceptionally(e);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+        return result;
+    }
+
+    /**
+     * Cancels a delayed color change that has not yet been sent, so that a superseded color is not sent after a newer
+     * command
+     */
+    private void cancelDelayedColorChange() {
+        synchronized (delayedColorChangeSync) {
+            if (delayedColorChangeTimer != null) {
+                delayedColorChangeTimer.cancel(false);
+                delayedColorChangeTimer = null;
+            }
+            if (delayedColorChangeResult != null) {
+                logger.debug("{}: Delayed color change cancelled", endpoint.getIeeeAddress());
+                delayedColorChangeResult.cancel(false);
+                delayedColorChangeResult = null;
+            }
+        }
+    }
+
     @Override
     public void handleCommand(final Command command) {
+        handleCommandAsync(command);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> handleCommandAsync(final Command command) {
+        // A newer command supersedes any delayed color change
+        cancelDelayedColorChange();
+
         try {
             List<Future<CommandResult>> futures = new ArrayList<>();
             if (command instanceof HSBType) {
@@ -387,13 +492,10 @@ public class ZigBeeConverterColorColor extends ZigBeeBaseChannelConverter implem
                 futures.add(changeBrightness(brightness));
 
                 if (delayedColorChange && brightness.intValue() != lastHSB.getBrightness().intValue()) {
-                    Thread.sleep(1100);
-                }
-
-                if (supportsHue) {
-                    futures.add(changeColorHueSaturation(color));
+                    // Wait for the brightness transition to complete before changing the color
+                    futures.add(scheduleColorChange(color, DELAYED_COLOR_CHANGE_TIME));
                 } else {
-                    futures.add(changeColorXY(color));
+                    futures.add(changeColor(color));
                 }
             } else if (command instanceof PercentType) {
                 futures.add(changeBrightness((PercentType) command));
@@ -401,9 +503,10 @@ public class ZigBeeConverterColorColor extends ZigBeeBaseChannelConverter implem
                 futures.add(changeOnOff((OnOffType) command));
             }
 
-            super.monitorCommandResponse(command, futures);
+            return super.monitorCommandResponseAsync(command, futures);
         } catch (InterruptedException | ExecutionException e) {
             logger.warn("{}: Exception processing command", endpoint.getIeeeAddress(), e);
+            return CompletableFuture.completedFuture(false);
         }
     }
 
@@ -588,7 +691,7 @@ public class ZigBeeConverterColorColor extends ZigBeeBaseChannelConverter implem
 
                 if (hueChanged || saturationChanged || xChanged || yChanged) {
                     if (colorUpdateTimer != null) {
-                        colorUpdateTimer.cancel(true);
+                        colorUpdateTimer.cancel(false);
                         colorUpdateTimer = null;
                     }
 
@@ -598,7 +701,7 @@ public class ZigBeeConverterColorColor extends ZigBeeBaseChannelConverter implem
                         updateColorXY();
                     } else {
                         // Wait some time and update anyway if only one attribute in each pair is updated
-                        colorUpdateTimer = colorUpdateScheduler.schedule(new Runnable() {
+                        colorUpdateTimer = getTimerService().schedule(new Runnable() {
                             @Override
                             public void run() {
                                 synchronized (colorUpdateSync) {
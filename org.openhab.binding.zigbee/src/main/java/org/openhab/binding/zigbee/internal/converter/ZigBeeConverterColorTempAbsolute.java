@@ -13,6 +13,7 @@
 package org.openhab.binding.zigbee.internal.converter;
 
 import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
 
 import org.openhab.binding.zigbee.ZigBeeBindingConstants;
 import org.openhab.binding.zigbee.handler.ZigBeeThingHandler;
@@ -54,16 +55,16 @@ public class ZigBeeConverterColorTempAbsolute extends ZigBeeConverterColorTemper
     }
 
     @Override
-    public void handleCommand(final Command command) {
+    public CompletableFuture<Boolean> handleCommandAsync(final Command command) {
         if (command instanceof QuantityType<?> quantity) {
             QuantityType<?> mired = quantity.toInvertibleUnit(Units.MIRED);
             if (mired != null) {
                 MoveToColorTemperatureCommand zclCommand = new MoveToColorTemperatureCommand(mired.intValue(), 10);
-                monitorCommandResponse(command, clusterColorControl.sendCommand(zclCommand));
+                return monitorCommandResponseAsync(command, clusterColorControl.sendCommand(zclCommand));
             }
-            return;
+            return CompletableFuture.completedFuture(false);
         }
-        super.handleCommand(command);
+        return super.handleCommandAsync(command);
     }
 
     @Override
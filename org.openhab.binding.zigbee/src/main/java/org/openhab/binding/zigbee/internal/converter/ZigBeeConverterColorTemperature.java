@@ -14,6 +14,7 @@ package org.openhab.binding.zigbee.internal.converter;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import org.openhab.binding.zigbee.ZigBeeBindingConstants;
@@ -85,15 +86,19 @@ public class ZigBeeConverterColorTemperature extends ZigBeeBaseChannelConverter
         try {
             CommandResult bindResponse = bind(serverClusterColorControl).get();
             if (bindResponse.isSuccess()) {
+                readReportingConfiguration(serverClusterColorControl, ZclColorControlCluster.ATTR_COLORTEMPERATURE,
+                        ZclColorControlCluster.ATTR_COLORMODE);
+
                 // Configure reporting - no faster than once per second - no slower than 2 hours.
-                CommandResult reportingResponse = serverClusterColorControl
-                        .getAttribute(ZclColorControlCluster.ATTR_COLORTEMPERATURE)
-                        .setReporting(1, REPORTING_PERIOD_DEFAULT_MAX, 1).get();
+                CommandResult reportingResponse = setReporting(
+                        serverClusterColorControl.getAttribute(ZclColorControlCluster.ATTR_COLORTEMPERATURE), 1,
+                        REPORTING_PERIOD_DEFAULT_MAX, 1).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_DEFAULT, REPORTING_PERIOD_DEFAULT_MAX);
 
                 // ColorMode reporting
-                reportingResponse = serverClusterColorControl.getAttribute(ZclColorControlCluster.ATTR_COLORMODE)
-                        .setReporting(1, REPORTING_PERIOD_DEFAULT_MAX, 1).get();
+                reportingResponse = setReporting(
+                        serverClusterColorControl.getAttribute(ZclColorControlCluster.ATTR_COLORMODE), 1,
+                        REPORTING_PERIOD_DEFAULT_MAX, 1).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_DEFAULT, REPORTING_PERIOD_DEFAULT_MAX);
             }
         } catch (InterruptedException | ExecutionException e) {
@@ -133,18 +138,22 @@ public class ZigBeeConverterColorTemperature extends ZigBeeBaseChannelConverter
 
     @Override
     public void handleCommand(final Command command) {
+        handleCommandAsync(command);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> handleCommandAsync(final Command command) {
         PercentType colorTemperaturePercentage = PercentType.ZERO;
         if (command instanceof PercentType) {
             colorTemperaturePercentage = (PercentType) command;
         } else if (command instanceof OnOffType onOffCommand && clusterOnOff != null) {
             ZclOnOffCommand zclOnOffCommand = OnOffType.ON == onOffCommand ? new OnCommand() : new OffCommand();
-            monitorCommandResponse(command, clusterOnOff.sendCommand(zclOnOffCommand));
-            return;
+            return monitorCommandResponseAsync(command, clusterOnOff.sendCommand(zclOnOffCommand));
         }
 
         MoveToColorTemperatureCommand zclCommand = new MoveToColorTemperatureCommand(
                 percentToMired(colorTemperaturePercentage), 10);
-        monitorCommandResponse(command, clusterColorControl.sendCommand(zclCommand));
+        return monitorCommandResponseAsync(command, clusterColorControl.sendCommand(zclCommand));
     }
 
     @Override
@@ -14,6 +14,7 @@ package org.openhab.binding.zigbee.internal.converter;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import org.openhab.binding.zigbee.ZigBeeBindingConstants;
@@ -73,7 +74,7 @@ public class ZigBeeConverterDoorLock extends ZigBeeBaseChannelConverter implemen
             if (bindResponse.isSuccess()) {
                 // Configure reporting - no faster than once per second - no slower than 2 hours.
                 ZclAttribute attribute = serverCluster.getAttribute(ZclDoorLockCluster.ATTR_LOCKSTATE);
-                CommandResult reportingResponse = attribute.setReporting(1, REPORTING_PERIOD_DEFAULT_MAX).get();
+                CommandResult reportingResponse = setReporting(attribute, 1, REPORTING_PERIOD_DEFAULT_MAX).get();
 
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_HIGH, REPORTING_PERIOD_DEFAULT_MAX);
             } else {
@@ -117,6 +118,11 @@ public class ZigBeeConverterDoorLock extends ZigBeeBaseChannelConverter implemen
 
     @Override
     public void handleCommand(final Command command) {
+        handleCommandAsync(command);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> handleCommandAsync(final Command command) {
         ZclDoorLockCommand zclCommand;
         if (command == OnOffType.ON) {
             zclCommand = new LockDoorCommand(new ByteArray(new byte[0]));
@@ -124,7 +130,7 @@ public class ZigBeeConverterDoorLock extends ZigBeeBaseChannelConverter implemen
             zclCommand = new UnlockDoorCommand(new ByteArray(new byte[0]));
         }
 
-        monitorCommandResponse(command, cluster.sendCommand(zclCommand));
+        return monitorCommandResponseAsync(command, cluster.sendCommand(zclCommand));
     }
 
     @Override
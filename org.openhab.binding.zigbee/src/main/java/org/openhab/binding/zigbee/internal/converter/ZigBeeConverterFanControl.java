@@ -18,6 +18,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import org.eclipse.jdt.annotation.NonNull;
@@ -89,7 +90,7 @@ public class ZigBeeConverterFanControl extends ZigBeeBaseChannelConverter implem
             if (bindResponse.isSuccess()) {
                 // Configure reporting
                 ZclAttribute attribute = serverCluster.getAttribute(ZclFanControlCluster.ATTR_FANMODE);
-                CommandResult reportingResponse = attribute.setReporting(1, REPORTING_PERIOD_DEFAULT_MAX).get();
+                CommandResult reportingResponse = setReporting(attribute, 1, REPORTING_PERIOD_DEFAULT_MAX).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_HIGH, REPORTING_PERIOD_DEFAULT_MAX);
             } else {
                 pollingPeriod = POLLING_PERIOD_HIGH;
@@ -177,6 +178,11 @@ public class ZigBeeConverterFanControl extends ZigBeeBaseChannelConverter implem
 
     @Override
     public void handleCommand(final Command command) {
+        handleCommandAsync(command);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> handleCommandAsync(final Command command) {
         int value;
         if (command instanceof OnOffType) {
             value = command == OnOffType.ON ? MODE_ON : MODE_OFF;
@@ -184,10 +190,10 @@ public class ZigBeeConverterFanControl extends ZigBeeBaseChannelConverter implem
             value = ((DecimalType) command).intValue();
         } else {
             logger.debug("{}: Unabled to convert fan mode {}", endpoint.getIeeeAddress(), command);
-            return;
+            return CompletableFuture.completedFuture(false);
         }
 
-        monitorCommandResponse(command, fanModeAttribute.writeValue(value));
+        return monitorCommandResponseAsync(command, fanModeAttribute.writeValue(value));
     }
 
     @Override
@@ -92,8 +92,7 @@ public abstract class ZigBeeConverterIas extends ZigBeeBaseChannelConverter
             if (bindResponse.isSuccess()) {
                 // Configure reporting - no faster than once per second - no slower than 2 hours.
                 ZclAttribute attribute = serverClusterIasZone.getAttribute(ZclIasZoneCluster.ATTR_ZONESTATUS);
-                CommandResult reportingResponse = serverClusterIasZone
-                        .setReporting(attribute, 3, REPORTING_PERIOD_DEFAULT_MAX).get();
+                CommandResult reportingResponse = setReporting(attribute, 3, REPORTING_PERIOD_DEFAULT_MAX).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_DEFAULT, REPORTING_PERIOD_DEFAULT_MAX);
             }
         } catch (InterruptedException | ExecutionException e) {
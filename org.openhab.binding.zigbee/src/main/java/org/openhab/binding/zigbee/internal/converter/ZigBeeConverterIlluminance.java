@@ -84,7 +84,7 @@ public class ZigBeeConverterIlluminance extends ZigBeeBaseChannelConverter imple
                 // Configure reporting - no faster than once per second - no slower than 2 hours.
                 ZclAttribute attribute = serverCluster
                         .getAttribute(ZclIlluminanceMeasurementCluster.ATTR_MEASUREDVALUE);
-                CommandResult reportingResponse = attribute.setReporting(reporting.getReportingTimeMin(),
+                CommandResult reportingResponse = setReporting(attribute, reporting.getReportingTimeMin(),
                         reporting.getReportingTimeMax(), reporting.getReportingChange()).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_DEFAULT, reporting.getPollingPeriod());
             }
@@ -145,7 +145,7 @@ public class ZigBeeConverterIlluminance extends ZigBeeBaseChannelConverter imple
             try {
                 ZclAttribute attribute = cluster.getAttribute(ZclIlluminanceMeasurementCluster.ATTR_MEASUREDVALUE);
                 CommandResult reportingResponse;
-                reportingResponse = attribute.setReporting(configReporting.getReportingTimeMin(),
+                reportingResponse = setReporting(attribute, configReporting.getReportingTimeMin(),
                         configReporting.getReportingTimeMax(), configReporting.getReportingChange()).get();
                 handleReportingResponse(reportingResponse, configReporting.getPollingPeriod(),
                         configReporting.getReportingTimeMax());
@@ -91,7 +91,7 @@ public class ZigBeeConverterMeasurementRmsCurrent extends ZigBeeBaseChannelConve
                 ZclAttribute attribute = serverClusterMeasurement
                         .getAttribute(ZclElectricalMeasurementCluster.ATTR_RMSCURRENT);
                 // Configure reporting
-                CommandResult reportingResponse = attribute.setReporting(reporting.getReportingTimeMin(),
+                CommandResult reportingResponse = setReporting(attribute, reporting.getReportingTimeMin(),
                         reporting.getReportingTimeMax(), reporting.getReportingChange()).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_HIGH, REPORTING_PERIOD_DEFAULT_MAX);
             } else {
@@ -149,7 +149,7 @@ public class ZigBeeConverterMeasurementRmsCurrent extends ZigBeeBaseChannelConve
                 ZclAttribute attribute = clusterMeasurement
                         .getAttribute(ZclElectricalMeasurementCluster.ATTR_RMSCURRENT);
                 CommandResult reportingResponse;
-                reportingResponse = attribute.setReporting(configReporting.getReportingTimeMin(),
+                reportingResponse = setReporting(attribute, configReporting.getReportingTimeMin(),
                         configReporting.getReportingTimeMax(), configReporting.getReportingChange()).get();
                 handleReportingResponse(reportingResponse, configReporting.getPollingPeriod(),
                         configReporting.getReportingTimeMax());
@@ -91,7 +91,7 @@ public class ZigBeeConverterMeteringSummationDelivered extends ZigBeeBaseChannel
                 ZclAttribute attribute = serverClusterMeasurement
                         .getAttribute(ZclMeteringCluster.ATTR_CURRENTSUMMATIONDELIVERED);
                 // Configure reporting
-                CommandResult reportingResponse = attribute.setReporting(reporting.getReportingTimeMin(),
+                CommandResult reportingResponse = setReporting(attribute, reporting.getReportingTimeMin(),
                         reporting.getReportingTimeMax(), Long.valueOf(reporting.getReportingChange())).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_HIGH, REPORTING_PERIOD_DEFAULT_MAX);
             } else {
@@ -148,9 +148,9 @@ public class ZigBeeConverterMeteringSummationDelivered extends ZigBeeBaseChannel
                 ZclAttribute attribute = clusterMetering
                         .getAttribute(ZclMeteringCluster.ATTR_CURRENTSUMMATIONDELIVERED);
                 CommandResult reportingResponse;
-                reportingResponse = attribute.setReporting(configReporting.getReportingTimeMin(),
-                        configReporting.getReportingTimeMax(), Long.valueOf(configReporting.getReportingChange()))
-                        .get();
+                reportingResponse = setReporting(attribute, configReporting.getReportingTimeMin(),
+                        configReporting.getReportingTimeMax(),
+                        Long.valueOf(configReporting.getReportingChange())).get();
                 handleReportingResponse(reportingResponse, configReporting.getPollingPeriod(),
                         configReporting.getReportingTimeMax());
             } catch (InterruptedException | ExecutionException e) {
@@ -81,8 +81,8 @@ public class ZigBeeConverterOccupancy extends ZigBeeBaseChannelConverter impleme
             if (bindResponse.isSuccess()) {
                 // Configure reporting
                 ZclAttribute attribute = serverClusterOccupancy.getAttribute(ZclOccupancySensingCluster.ATTR_OCCUPANCY);
-                CommandResult reportingResponse = attribute
-                        .setReporting(reporting.getReportingTimeMin(), reporting.getReportingTimeMax()).get();
+                CommandResult reportingResponse = setReporting(attribute, reporting.getReportingTimeMin(),
+                        reporting.getReportingTimeMax()).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_DEFAULT, reporting.getPollingPeriod());
             }
         } catch (InterruptedException | ExecutionException e) {
@@ -166,9 +166,8 @@ public class ZigBeeConverterOccupancy extends ZigBeeBaseChannelConverter impleme
                     CommandResult reportingResponse;
 
                     attribute = clusterOccupancy.getAttribute(ZclOccupancySensingCluster.ATTR_OCCUPANCY);
-                    reportingResponse = attribute
-                            .setReporting(configReporting.getReportingTimeMin(), configReporting.getReportingTimeMax())
-                            .get();
+                    reportingResponse = setReporting(attribute, configReporting.getReportingTimeMin(),
+                            configReporting.getReportingTimeMax()).get();
                     handleReportingResponse(reportingResponse, configReporting.getPollingPeriod(),
                             configReporting.getReportingTimeMax());
                 } catch (InterruptedException | ExecutionException e) {
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zigbee.internal.converter;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.openhab.binding.zigbee.converter.ZigBeeBaseChannelConverter;
+import org.openhab.binding.zigbee.handler.ZigBeeThingHandler;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.thing.Channel;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.types.Command;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.ZigBeeEndpoint;
+import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclScenesCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.scenes.RecallSceneCommand;
+
+/**
+ * This channel recalls a scene stored in the device. Scenes are stored against the global scene group, so they are
+ * independent of any groups the device is a member of.
+ * <p>
+ * The channel is not added to devices automatically, and is only available where it is defined in a static thing type.
+ *
+ * @author Chris Jackson - Initial contribution
+ *
+ */
+public class ZigBeeConverterSceneRecall extends ZigBeeBaseChannelConverter {
+    private Logger logger = LoggerFactory.getLogger(ZigBeeConverterSceneRecall.class);
+
+    /**
+     * Group ID used for scenes that are not associated with a group
+     */
+    private static final int SCENE_GROUP_GLOBAL = 0x0000;
+
+    /**
+     * Valid scene IDs
+     */
+    private static final int SCENE_ID_MIN = 0x00;
+    private static final int SCENE_ID_MAX = 0xFF;
+
+    /**
+     * Recall scene transition time indicating the transition time stored with the scene should be used
+     */
+    private static final int SCENE_TRANSITION_TIME_STORED = 0xFFFF;
+
+    private ZclScenesCluster cluster;
+
+    @Override
+    public Set<Integer> getImplementedClientClusters() {
+        return Collections.singleton(ZclScenesCluster.CLUSTER_ID);
+    }
+
+    @Override
+    public Set<Integer> getImplementedServerClusters() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public boolean initializeConverter(ZigBeeThingHandler thing) {
+        super.initializeConverter(thing);
+        cluster = (ZclScenesCluster) endpoint.getInputCluster(ZclScenesCluster.CLUSTER_ID);
+        if (cluster == null) {
+            logger.error("{}: Error opening device scenes cluster", endpoint.getIeeeAddress());
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void handleCommand(final Command command) {
+        handleCommandAsync(command);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> handleCommandAsync(final Command command) {
+        if (!(command instanceof DecimalType)) {
+            logger.debug("{}: Unable to convert scene {}", endpoint.getIeeeAddress(), command);
+            return CompletableFuture.completedFuture(false);
+        }
+        int sceneId = ((DecimalType) command).intValue();
+        if (sceneId < SCENE_ID_MIN || sceneId > SCENE_ID_MAX) {
+            logger.debug("{}: Scene {} is out of range", endpoint.getIeeeAddress(), sceneId);
+            return CompletableFuture.completedFuture(false);
+        }
+
+        logger.debug("{}: Recalling scene {}", endpoint.getIeeeAddress(), sceneId);
+        ZclCommand zclCommand = new RecallSceneCommand(SCENE_GROUP_GLOBAL, sceneId, SCENE_TRANSITION_TIME_STORED);
+        return monitorCommandResponseAsync(command, cluster.sendCommand(zclCommand));
+    }
+
+    @Override
+    public Channel getChannel(ThingUID thingUID, ZigBeeEndpoint endpoint) {
+        // This converter is used only for channels specified in static thing types. Scenes are normally used through a
+        // group, so scene channels are not added to every device that supports the scenes cluster.
+        return null;
+    }
+}
@@ -13,12 +13,12 @@
 package org.openhab.binding.zigbee.internal.converter;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -108,7 +108,6 @@ public class ZigBeeConverterSwitchLevel extends ZigBeeBaseChannelConverter
 
     private Command lastCommand;
 
-    private ScheduledExecutorService updateScheduler;
     private ScheduledFuture<?> updateTimer = null;
 
     @Override
@@ -121,6 +120,16 @@ public class ZigBeeConverterSwitchLevel extends ZigBeeBaseChannelConverter
         return Stream.of(ZclOnOffCluster.CLUSTER_ID, ZclLevelControlCluster.CLUSTER_ID).collect(Collectors.toSet());
     }
 
+    @Override
+    public Set<Integer> getRequiredInputClusters() {
+        return Collections.singleton(ZclLevelControlCluster.CLUSTER_ID);
+    }
+
+    @Override
+    public Set<Integer> getRequiredOutputClusters() {
+        return Collections.singleton(ZclLevelControlCluster.CLUSTER_ID);
+    }
+
     @Override
     public boolean initializeDevice() {
         if (initializeDeviceServer()) {
@@ -153,8 +162,8 @@ public class ZigBeeConverterSwitchLevel extends ZigBeeBaseChannelConverter
                 // Configure reporting
                 ZclAttribute attribute = serverClusterLevelControl
                         .getAttribute(ZclLevelControlCluster.ATTR_CURRENTLEVEL);
-                CommandResult reportingResponse = attribute
-                        .setReporting(reporting.getReportingTimeMin(), reporting.getReportingTimeMax(), 1).get();
+                CommandResult reportingResponse = setReporting(attribute, reporting.getReportingTimeMin(),
+                        reporting.getReportingTimeMax(), 1).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_HIGH, reporting.getPollingPeriod());
             } else {
                 pollingPeriod = POLLING_PERIOD_HIGH;
@@ -178,8 +187,8 @@ public class ZigBeeConverterSwitchLevel extends ZigBeeBaseChannelConverter
             if (bindResponse.isSuccess()) {
                 // Configure reporting
                 ZclAttribute attribute = serverClusterOnOff.getAttribute(ZclOnOffCluster.ATTR_ONOFF);
-                CommandResult reportingResponse = attribute
-                        .setReporting(reporting.getReportingTimeMin(), reporting.getReportingTimeMax()).get();
+                CommandResult reportingResponse = setReporting(attribute, reporting.getReportingTimeMin(),
+                        reporting.getReportingTimeMax()).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_HIGH, reporting.getPollingPeriod());
             } else {
                 pollingPeriod = POLLING_PERIOD_HIGH;
@@ -239,8 +248,6 @@ public class ZigBeeConverterSwitchLevel extends ZigBeeBaseChannelConverter
     public synchronized boolean initializeConverter(ZigBeeThingHandler thing) {
         super.initializeConverter(thing);
 
-        updateScheduler = Executors.newSingleThreadScheduledExecutor();
-
         if (initializeConverterServer()) {
             logger.debug("{}: Level control initialized as server", endpoint.getIeeeAddress());
             return true;
@@ -338,7 +345,6 @@ public class ZigBeeConverterSwitchLevel extends ZigBeeBaseChannelConverter
         }
 
         stopTransitionTimer();
-        updateScheduler.shutdownNow();
     }
 
     @Override
@@ -361,6 +367,11 @@ public class ZigBeeConverterSwitchLevel extends ZigBeeBaseChannelConverter
 
     @Override
     public void handleCommand(final Command command) {
+        handleCommandAsync(command);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> handleCommandAsync(final Command command) {
         Command localCommand = command;
         Future<CommandResult> responseFuture = null;
         if (command instanceof OnOffType) {
@@ -377,12 +388,12 @@ public class ZigBeeConverterSwitchLevel extends ZigBeeBaseChannelConverter
         } else {
             logger.warn("{}: Level converter only accepts PercentType, IncreaseDecreaseType and OnOffType - not {}",
                     endpoint.getIeeeAddress(), command.getClass().getSimpleName());
-            return;
+            return CompletableFuture.completedFuture(false);
         }
 
         // Some functionality (eg IncreaseDecrease) requires that we know the last command received
         lastCommand = localCommand;
-        monitorCommandResponse(localCommand, responseFuture, cmd -> {
+        return monitorCommandResponseAsync(localCommand, responseFuture, cmd -> {
             updateChannelState((State) cmd);
             if (cmd instanceof PercentType) {
                 lastLevel = ((PercentType) cmd);
@@ -494,14 +505,13 @@ public class ZigBeeConverterSwitchLevel extends ZigBeeBaseChannelConverter
                     CommandResult reportingResponse;
 
                     attribute = clusterOnOffServer.getAttribute(ZclOnOffCluster.ATTR_ONOFF);
-                    reportingResponse = attribute
-                            .setReporting(configReporting.getReportingTimeMin(), configReporting.getReportingTimeMax())
-                            .get();
+                    reportingResponse = setReporting(attribute, configReporting.getReportingTimeMin(),
+                            configReporting.getReportingTimeMax()).get();
                     handleReportingResponse(reportingResponse, configReporting.getPollingPeriod(),
                             configReporting.getReportingTimeMax());
 
                     attribute = clusterLevelControlServer.getAttribute(ZclLevelControlCluster.ATTR_CURRENTLEVEL);
-                    reportingResponse = attribute.setReporting(configReporting.getReportingTimeMin(),
+                    reportingResponse = setReporting(attribute, configReporting.getReportingTimeMin(),
                             configReporting.getReportingTimeMax(), configReporting.getReportingChange()).get();
                     handleReportingResponse(reportingResponse, configReporting.getPollingPeriod(),
                             configReporting.getReportingTimeMax());
@@ -674,7 +684,7 @@ public class ZigBeeConverterSwitchLevel extends ZigBeeBaseChannelConverter
 
     private void stopTransitionTimer() {
         if (updateTimer != null) {
-            updateTimer.cancel(true);
+            updateTimer.cancel(false);
             updateTimer = null;
         }
     }
@@ -702,7 +712,7 @@ public class ZigBeeConverterSwitchLevel extends ZigBeeBaseChannelConverter
         final double start = lastLevel.doubleValue();
         final double step = (finalState - lastLevel.doubleValue()) / steps;
 
-        updateTimer = updateScheduler.scheduleAtFixedRate(new Runnable() {
+        updateTimer = getTimerService().scheduleAtFixedRate(new Runnable() {
             private int count = 0;
             private double state = start;
 
@@ -722,7 +732,7 @@ public class ZigBeeConverterSwitchLevel extends ZigBeeBaseChannelConverter
 
                 if (state == 0.0 || state == 100.0 || ++count == steps) {
                     logger.debug("{}: Level transition timer complete", endpoint.getIeeeAddress());
-                    updateTimer.cancel(true);
+                    updateTimer.cancel(false);
                     updateTimer = null;
                 }
             }
@@ -737,7 +747,7 @@ public class ZigBeeConverterSwitchLevel extends ZigBeeBaseChannelConverter
     private void startOffTimer(int delay) {
         stopTransitionTimer();
 
-        updateTimer = updateScheduler.schedule(new Runnable() {
+        updateTimer = getTimerService().schedule(new Runnable() {
             @Override
             public void run() {
                 logger.debug("{}: OnOff auto OFF timer expired", endpoint.getIeeeAddress());
@@ -789,7 +799,7 @@ public class ZigBeeConverterSwitchLevel extends ZigBeeBaseChannelConverter
     private void startStopTimer(int delay) {
         stopTransitionTimer();
 
-        updateTimer = updateScheduler.schedule(new Runnable() {
+        updateTimer = getTimerService().schedule(new Runnable() {
             @Override
             public void run() {
                 logger.debug("{}: IncreaseDecrease Stop timer expired", endpoint.getIeeeAddress());
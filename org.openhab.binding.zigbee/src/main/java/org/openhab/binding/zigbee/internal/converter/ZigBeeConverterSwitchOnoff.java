@@ -16,9 +16,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -76,7 +75,6 @@ public class ZigBeeConverterSwitchOnoff extends ZigBeeBaseChannelConverter
 
     private final AtomicBoolean currentOnOffState = new AtomicBoolean(true);
 
-    private ScheduledExecutorService updateScheduler;
     private ScheduledFuture<?> updateTimer = null;
 
     @Override
@@ -106,8 +104,8 @@ public class ZigBeeConverterSwitchOnoff extends ZigBeeBaseChannelConverter
                 if (bindResponse.isSuccess()) {
                     // Configure reporting
                     ZclAttribute attribute = serverCluster.getAttribute(ZclOnOffCluster.ATTR_ONOFF);
-                    CommandResult reportingResponse = attribute
-                            .setReporting(reporting.getReportingTimeMin(), reporting.getReportingTimeMax()).get();
+                    CommandResult reportingResponse = setReporting(attribute, reporting.getReportingTimeMin(),
+                            reporting.getReportingTimeMax()).get();
                     handleReportingResponse(reportingResponse, POLLING_PERIOD_HIGH, reporting.getPollingPeriod());
                 } else {
                     logger.debug("{}: Error 0x{} setting server binding", endpoint.getIeeeAddress(),
@@ -137,7 +135,6 @@ public class ZigBeeConverterSwitchOnoff extends ZigBeeBaseChannelConverter
     @Override
     public boolean initializeConverter(ZigBeeThingHandler thing) {
         super.initializeConverter(thing);
-        updateScheduler = Executors.newSingleThreadScheduledExecutor();
 
         clusterOnOffClient = (ZclOnOffCluster) endpoint.getOutputCluster(ZclOnOffCluster.CLUSTER_ID);
         clusterOnOffServer = (ZclOnOffCluster) endpoint.getInputCluster(ZclOnOffCluster.CLUSTER_ID);
@@ -182,7 +179,6 @@ public class ZigBeeConverterSwitchOnoff extends ZigBeeBaseChannelConverter
         }
 
         stopOffTimer();
-        updateScheduler.shutdownNow();
     }
 
     @Override
@@ -202,10 +198,15 @@ public class ZigBeeConverterSwitchOnoff extends ZigBeeBaseChannelConverter
 
     @Override
     public void handleCommand(final Command command) {
+        handleCommandAsync(command);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> handleCommandAsync(final Command command) {
         if (clusterOnOffServer == null) {
             logger.warn("{}: OnOff converter is not linked to a server and cannot accept commands",
                     endpoint.getIeeeAddress());
-            return;
+            return CompletableFuture.completedFuture(false);
         }
 
         OnOffType cmdOnOff = null;
@@ -220,7 +221,7 @@ public class ZigBeeConverterSwitchOnoff extends ZigBeeBaseChannelConverter
         } else {
             logger.warn("{}: OnOff converter only accepts PercentType and OnOffType - not {}",
                     endpoint.getIeeeAddress(), command.getClass().getSimpleName());
-            return;
+            return CompletableFuture.completedFuture(false);
         }
 
         ZclOnOffCommand onOffCommand;
@@ -229,7 +230,7 @@ public class ZigBeeConverterSwitchOnoff extends ZigBeeBaseChannelConverter
         } else {
             onOffCommand = new OffCommand();
         }
-        monitorCommandResponse(command, clusterOnOffServer.sendCommand(onOffCommand));
+        return monitorCommandResponseAsync(command, clusterOnOffServer.sendCommand(onOffCommand));
     }
 
     @Override
@@ -260,9 +261,8 @@ public class ZigBeeConverterSwitchOnoff extends ZigBeeBaseChannelConverter
                 CommandResult reportingResponse;
 
                 attribute = clusterOnOffServer.getAttribute(ZclOnOffCluster.ATTR_ONOFF);
-                reportingResponse = attribute
-                        .setReporting(configReporting.getReportingTimeMin(), configReporting.getReportingTimeMax())
-                        .get();
+                reportingResponse = setReporting(attribute, configReporting.getReportingTimeMin(),
+                        configReporting.getReportingTimeMax()).get();
                 handleReportingResponse(reportingResponse, configReporting.getPollingPeriod(),
                         configReporting.getReportingTimeMax());
             } catch (InterruptedException | ExecutionException e) {
@@ -321,7 +321,7 @@ public class ZigBeeConverterSwitchOnoff extends ZigBeeBaseChannelConverter
 
     private void stopOffTimer() {
         if (updateTimer != null) {
-            updateTimer.cancel(true);
+            updateTimer.cancel(false);
             updateTimer = null;
         }
     }
@@ -329,7 +329,7 @@ public class ZigBeeConverterSwitchOnoff extends ZigBeeBaseChannelConverter
     private void startOffTimer(int delay) {
         stopOffTimer();
 
-        updateTimer = updateScheduler.schedule(new Runnable() {
+        updateTimer = getTimerService().schedule(new Runnable() {
             @Override
             public void run() {
                 logger.debug("{}: OnOff auto OFF timer expired", endpoint.getIeeeAddress());
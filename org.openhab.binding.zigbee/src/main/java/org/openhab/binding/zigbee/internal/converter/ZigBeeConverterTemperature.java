@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import org.eclipse.jdt.annotation.NonNull;
@@ -94,7 +95,7 @@ public class ZigBeeConverterTemperature extends ZigBeeBaseChannelConverter imple
                 // Configure reporting
                 ZclAttribute attribute = serverCluster
                         .getAttribute(ZclTemperatureMeasurementCluster.ATTR_MEASUREDVALUE);
-                CommandResult reportingResponse = attribute.setReporting(reporting.getReportingTimeMin(),
+                CommandResult reportingResponse = setReporting(attribute, reporting.getReportingTimeMin(),
                         reporting.getReportingTimeMax(), reporting.getReportingChange()).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_DEFAULT, REPORTING_PERIOD_DEFAULT_MAX);
             } else {
@@ -154,10 +155,15 @@ public class ZigBeeConverterTemperature extends ZigBeeBaseChannelConverter imple
 
     @Override
     public void handleCommand(final Command command) {
+        handleCommandAsync(command);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> handleCommandAsync(final Command command) {
         if (attributeClient == null) {
             logger.warn("{}: Temperature measurement update but remote client not set", endpoint.getIeeeAddress(),
                     command, command.getClass().getSimpleName());
-            return;
+            return CompletableFuture.completedFuture(false);
         }
 
         Integer value = temperatureToValue(command);
@@ -165,11 +171,12 @@ public class ZigBeeConverterTemperature extends ZigBeeBaseChannelConverter imple
         if (value == null) {
             logger.warn("{}: Temperature measurement update {} [{}] was not processed", endpoint.getIeeeAddress(),
                     command, command.getClass().getSimpleName());
-            return;
+            return CompletableFuture.completedFuture(false);
         }
 
         attributeClient.setValue(value);
         attributeClient.reportValue(value);
+        return CompletableFuture.completedFuture(true);
     }
 
     @Override
@@ -179,7 +186,7 @@ public class ZigBeeConverterTemperature extends ZigBeeBaseChannelConverter imple
             try {
                 ZclAttribute attribute = cluster.getAttribute(ZclTemperatureMeasurementCluster.ATTR_MEASUREDVALUE);
                 CommandResult reportingResponse;
-                reportingResponse = attribute.setReporting(configReporting.getReportingTimeMin(),
+                reportingResponse = setReporting(attribute, configReporting.getReportingTimeMin(),
                         configReporting.getReportingTimeMax(), configReporting.getReportingChange()).get();
                 handleReportingResponse(reportingResponse, configReporting.getPollingPeriod(),
                         configReporting.getReportingTimeMax());
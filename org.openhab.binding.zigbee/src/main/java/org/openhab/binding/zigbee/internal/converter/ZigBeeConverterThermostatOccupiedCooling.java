@@ -14,6 +14,7 @@ package org.openhab.binding.zigbee.internal.converter;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import org.openhab.binding.zigbee.ZigBeeBindingConstants;
@@ -72,8 +73,8 @@ public class ZigBeeConverterThermostatOccupiedCooling extends ZigBeeBaseChannelC
             if (bindResponse.isSuccess()) {
                 // Configure reporting
                 ZclAttribute attribute = serverCluster.getAttribute(ZclThermostatCluster.ATTR_OCCUPIEDCOOLINGSETPOINT);
-                CommandResult reportingResponse = attribute
-                        .setReporting(REPORTING_PERIOD_DEFAULT_MIN, REPORTING_PERIOD_DEFAULT_MAX, 10).get();
+                CommandResult reportingResponse = setReporting(attribute, REPORTING_PERIOD_DEFAULT_MIN,
+                        REPORTING_PERIOD_DEFAULT_MAX, 10).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_DEFAULT, REPORTING_PERIOD_DEFAULT_MAX);
             } else {
                 logger.debug("{}: Failed to bind thermostat cluster", endpoint.getIeeeAddress());
@@ -114,15 +115,20 @@ public class ZigBeeConverterThermostatOccupiedCooling extends ZigBeeBaseChannelC
 
     @Override
     public void handleCommand(final Command command) {
+        handleCommandAsync(command);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> handleCommandAsync(final Command command) {
         Integer value = temperatureToValue(command);
 
         if (value == null) {
             logger.warn("{}: Thermostat occupied cooling setpoint {} [{}] was not processed", endpoint.getIeeeAddress(),
                     command, command.getClass().getSimpleName());
-            return;
+            return CompletableFuture.completedFuture(false);
         }
 
-        monitorCommandResponse(command, attribute.writeValue(value));
+        return monitorCommandResponseAsync(command, attribute.writeValue(value));
     }
 
     @Override
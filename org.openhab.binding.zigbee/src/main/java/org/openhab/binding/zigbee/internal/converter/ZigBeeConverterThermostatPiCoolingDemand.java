@@ -84,7 +84,7 @@ public class ZigBeeConverterThermostatPiCoolingDemand extends ZigBeeBaseChannelC
                 // Configure reporting
                 ZclAttribute attribute = serverCluster.getAttribute(ZclThermostatCluster.ATTR_PICOOLINGDEMAND);
 
-                CommandResult reportingResponse = attribute.setReporting(reporting.getReportingTimeMin(),
+                CommandResult reportingResponse = setReporting(attribute, reporting.getReportingTimeMin(),
                         reporting.getReportingTimeMax(), reporting.getReportingChange()).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_DEFAULT, reporting.getPollingPeriod());
             } else {
@@ -146,7 +146,7 @@ public class ZigBeeConverterThermostatPiCoolingDemand extends ZigBeeBaseChannelC
             try {
                 final ZclAttribute attribute = cluster.getAttribute(ZclThermostatCluster.ATTR_PICOOLINGDEMAND);
 
-                final CommandResult reportingResponse = attribute.setReporting(configReporting.getReportingTimeMin(),
+                final CommandResult reportingResponse = setReporting(attribute, configReporting.getReportingTimeMin(),
                         configReporting.getReportingTimeMax(), configReporting.getReportingChange()).get();
                 handleReportingResponse(reportingResponse, configReporting.getPollingPeriod(),
                         configReporting.getReportingTimeMax());
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import org.openhab.binding.zigbee.ZigBeeBindingConstants;
@@ -82,8 +83,8 @@ public class ZigBeeConverterThermostatSystemMode extends ZigBeeBaseChannelConver
             if (bindResponse.isSuccess()) {
                 // Configure reporting
                 ZclAttribute attribute = serverCluster.getAttribute(ZclThermostatCluster.ATTR_SYSTEMMODE);
-                CommandResult reportingResponse = attribute
-                        .setReporting(REPORTING_PERIOD_DEFAULT_MIN, REPORTING_PERIOD_DEFAULT_MAX).get();
+                CommandResult reportingResponse = setReporting(attribute, REPORTING_PERIOD_DEFAULT_MIN,
+                        REPORTING_PERIOD_DEFAULT_MAX).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_DEFAULT, REPORTING_PERIOD_DEFAULT_MAX);
             } else {
                 logger.debug("{}: Failed to bind thermostat cluster", endpoint.getIeeeAddress());
@@ -144,6 +145,11 @@ public class ZigBeeConverterThermostatSystemMode extends ZigBeeBaseChannelConver
 
     @Override
     public void handleCommand(final Command command) {
+        handleCommandAsync(command);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> handleCommandAsync(final Command command) {
         Integer value = null;
         if (command instanceof OnOffType) {
             // OnOff switches between OFF=OFF and ON=AUTO
@@ -155,16 +161,16 @@ public class ZigBeeConverterThermostatSystemMode extends ZigBeeBaseChannelConver
         if (value == null) {
             logger.warn("{}: System mode command {} [{}] was not processed", endpoint.getIeeeAddress(), command,
                     command.getClass().getSimpleName());
-            return;
+            return CompletableFuture.completedFuture(false);
         }
 
         if (value < STATE_MIN || value > STATE_MAX) {
             logger.warn("{}: System mode command {} [{}], value {}, was out of limits", endpoint.getIeeeAddress(),
                     command, command.getClass().getSimpleName(), value);
-            return;
+            return CompletableFuture.completedFuture(false);
         }
 
-        monitorCommandResponse(command, attribute.writeValue(value));
+        return monitorCommandResponseAsync(command, attribute.writeValue(value));
     }
 
     @Override
@@ -14,6 +14,7 @@ package org.openhab.binding.zigbee.internal.converter;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import org.openhab.binding.zigbee.ZigBeeBindingConstants;
@@ -69,8 +70,8 @@ public class ZigBeeConverterThermostatUnoccupiedCooling extends ZigBeeBaseChanne
             CommandResult bindResponse = bind(serverCluster).get();
             // Configure reporting
             ZclAttribute attribute = serverCluster.getAttribute(ZclThermostatCluster.ATTR_UNOCCUPIEDCOOLINGSETPOINT);
-            CommandResult reportingResponse = attribute
-                    .setReporting(REPORTING_PERIOD_DEFAULT_MIN, REPORTING_PERIOD_DEFAULT_MAX, 10).get();
+            CommandResult reportingResponse = setReporting(attribute, REPORTING_PERIOD_DEFAULT_MIN,
+                    REPORTING_PERIOD_DEFAULT_MAX, 10).get();
             handleReportingResponse(reportingResponse, POLLING_PERIOD_DEFAULT, REPORTING_PERIOD_DEFAULT_MAX);
             if (!bindResponse.isSuccess()) {
             } else {
@@ -111,15 +112,20 @@ public class ZigBeeConverterThermostatUnoccupiedCooling extends ZigBeeBaseChanne
 
     @Override
     public void handleCommand(final Command command) {
+        handleCommandAsync(command);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> handleCommandAsync(final Command command) {
         Integer value = temperatureToValue(command);
 
         if (value == null) {
             logger.warn("{}: Thermostat unoccupied cooling setpoint {} [{}] was not processed",
                     endpoint.getIeeeAddress(), command, command.getClass().getSimpleName());
-            return;
+            return CompletableFuture.completedFuture(false);
         }
 
-        monitorCommandResponse(command, attribute.writeValue(value));
+        return monitorCommandResponseAsync(command, attribute.writeValue(value));
     }
 
     @Override
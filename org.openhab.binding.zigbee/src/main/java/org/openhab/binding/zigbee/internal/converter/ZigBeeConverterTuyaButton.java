@@ -94,8 +94,8 @@ public class ZigBeeConverterTuyaButton extends ZigBeeBaseChannelConverter
             if (bindResponse.isSuccess()) {
                 // Configure reporting
                 ZclAttribute attribute = serverCluster.getAttribute(ZclOnOffCluster.ATTR_ONOFF);
-                CommandResult reportingResponse = attribute
-                        .setReporting(reporting.getReportingTimeMin(), reporting.getReportingTimeMax()).get();
+                CommandResult reportingResponse = setReporting(attribute, reporting.getReportingTimeMin(),
+                        reporting.getReportingTimeMax()).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_HIGH, reporting.getPollingPeriod());
             } else {
                 logger.debug("{}: Error 0x{} setting server binding", endpoint.getIeeeAddress(),
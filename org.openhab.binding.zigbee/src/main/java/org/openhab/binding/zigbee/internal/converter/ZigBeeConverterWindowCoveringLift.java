@@ -15,6 +15,7 @@ package org.openhab.binding.zigbee.internal.converter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import org.openhab.binding.zigbee.ZigBeeBindingConstants;
@@ -85,7 +86,7 @@ public class ZigBeeConverterWindowCoveringLift extends ZigBeeBaseChannelConverte
                 // Configure reporting
                 ZclAttribute attribute = serverCluster
                         .getAttribute(ZclWindowCoveringCluster.ATTR_CURRENTPOSITIONLIFTPERCENTAGE);
-                CommandResult reportingResponse = attribute.setReporting(reporting.getReportingTimeMin(),
+                CommandResult reportingResponse = setReporting(attribute, reporting.getReportingTimeMin(),
                         reporting.getReportingTimeMax(), reporting.getReportingChange()).get();
                 handleReportingResponse(reportingResponse, POLLING_PERIOD_HIGH, reporting.getPollingPeriod());
             } else {
@@ -147,6 +148,11 @@ public class ZigBeeConverterWindowCoveringLift extends ZigBeeBaseChannelConverte
 
     @Override
     public void handleCommand(final Command command) {
+        handleCommandAsync(command);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> handleCommandAsync(final Command command) {
         ZclWindowCoveringCommand zclCommand = null;
         // UpDown MoveStop Percent Refresh
         if (command instanceof UpDownType) {
@@ -174,10 +180,10 @@ public class ZigBeeConverterWindowCoveringLift extends ZigBeeBaseChannelConverte
 
         if (command == null) {
             logger.debug("{}: Command was not converted - {}", endpoint.getIeeeAddress(), command);
-            return;
+            return CompletableFuture.completedFuture(false);
         }
 
-        monitorCommandResponse(command, clusterServer.sendCommand(zclCommand));
+        return monitorCommandResponseAsync(command, clusterServer.sendCommand(zclCommand));
     }
 
     @Override
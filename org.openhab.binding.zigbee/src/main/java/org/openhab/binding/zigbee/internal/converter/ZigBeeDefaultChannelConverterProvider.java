@@ -61,6 +61,8 @@ public final class ZigBeeDefaultChannelConverterProvider implements ZigBeeChanne
         channelMap.put(ZigBeeBindingConstants.CHANNEL_POWER_BATTERYVOLTAGE, ZigBeeConverterBatteryVoltage.class);
         channelMap.put(ZigBeeBindingConstants.CHANNEL_POWER_BATTERYALARM, ZigBeeConverterBatteryAlarm.class);
         channelMap.put(ZigBeeBindingConstants.CHANNEL_PRESSURE_VALUE, ZigBeeConverterAtmosphericPressure.class);
+        channelMap.put(ZigBeeBindingConstants.CHANNEL_SCENERECALL, ZigBeeConverterSceneRecall.class);
+        channelMap.put(ZigBeeBindingConstants.CHANNEL_SCENESTORE, ZigBeeConverterSceneStore.class);
         channelMap.put(ZigBeeBindingConstants.CHANNEL_SWITCH_ONOFF, ZigBeeConverterSwitchOnoff.class);
         channelMap.put(ZigBeeBindingConstants.CHANNEL_SWITCH_LEVEL, ZigBeeConverterSwitchLevel.class);
         channelMap.put(ZigBeeBindingConstants.CHANNEL_WARNING_DEVICE, ZigBeeConverterWarningDevice.class);
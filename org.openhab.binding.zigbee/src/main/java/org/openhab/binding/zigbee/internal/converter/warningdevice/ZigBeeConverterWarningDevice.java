@@ -19,6 +19,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -37,6 +39,7 @@ import org.openhab.binding.zigbee.handler.ZigBeeThingHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.clusters.ZclIasWdCluster;
 
@@ -130,35 +133,47 @@ public class ZigBeeConverterWarningDevice extends ZigBeeBaseChannelConverter {
 
     @Override
     public void handleCommand(final Command command) {
+        handleCommandAsync(command);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> handleCommandAsync(final Command command) {
         if (iasWdCluster == null) {
             logger.warn("{}: Warning device converter is not linked to a server and cannot accept commands",
                     endpoint.getIeeeAddress());
-            return;
+            return CompletableFuture.completedFuture(false);
         }
 
         if (!(command instanceof StringType)) {
             logger.warn("{}: This converter only supports string-type commands", endpoint.getIeeeAddress());
-            return;
+            return CompletableFuture.completedFuture(false);
         }
 
         String commandString = ((StringType) command).toFullString();
 
+        Future<CommandResult> response;
         WarningType warningType = WarningType.parse(commandString);
         if (warningType != null) {
-            sendWarning(warningType);
+            response = sendWarning(warningType);
         } else {
             SquawkType squawkType = SquawkType.parse(commandString);
             if (squawkType != null) {
-                squawk(squawkType);
+                response = squawk(squawkType);
             } else {
                 logger.warn("{}: Ignoring command that is neither warning nor squawk command: {}",
                         endpoint.getIeeeAddress(), commandString);
+                return CompletableFuture.completedFuture(false);
             }
         }
+
+        if (response == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return toCompletableFuture(response).handle((result, exception) -> exception == null && result.isSuccess());
     }
 
-    private void sendWarning(WarningType warningType) {
-        iasWdCluster.startWarningCommand(
+    private Future<CommandResult> sendWarning(WarningType warningType) {
+        return iasWdCluster.startWarningCommand(
                 makeWarningHeader(warningType.getWarningMode(), warningType.isUseStrobe(), warningType.getSirenLevel()),
                 (int) warningType.getDuration().getSeconds());
     }
@@ -171,8 +186,8 @@ public class ZigBeeConverterWarningDevice extends ZigBeeBaseChannelConverter {
         return result;
     }
 
-    private void squawk(SquawkType squawkType) {
-        iasWdCluster.squawk(
+    private Future<CommandResult> squawk(SquawkType squawkType) {
+        return iasWdCluster.squawk(
                 makeSquawkHeader(squawkType.getSquawkMode(), squawkType.isUseStrobe(), squawkType.getSquawkLevel()));
     }
 
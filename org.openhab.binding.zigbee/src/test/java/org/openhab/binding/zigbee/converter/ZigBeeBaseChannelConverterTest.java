@@ -13,16 +13,27 @@
 package org.openhab.binding.zigbee.converter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.times;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
+import org.openhab.binding.zigbee.handler.ZigBeeCoordinatorHandler;
 import org.openhab.binding.zigbee.handler.ZigBeeThingHandler;
 import org.openhab.binding.zigbee.internal.converter.ZigBeeConverterSwitchLevel;
 import org.openhab.core.library.types.DecimalType;
@@ -34,8 +45,16 @@ import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.types.Command;
 
 import com.zsmartsystems.zigbee.CommandResult;
+import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.ZigBeeProfileType;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
+import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclCluster;
+import com.zsmartsystems.zigbee.zcl.ZclStatus;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReadReportingConfigurationCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReadReportingConfigurationResponse;
+import com.zsmartsystems.zigbee.zcl.field.AttributeReportingConfigurationRecord;
 
 /**
  * Test of the ZigBeeBaseChannelConverter
@@ -139,4 +158,265 @@ public class ZigBeeBaseChannelConverterTest {
         converter.monitorCommandResponse(command, result);
         Mockito.verify(thingHandler, times(1)).setChannelState(ArgumentMatchers.any(), ArgumentMatchers.any());
     }
+
+    @Test
+    public void monitorCommandResponseAsync() throws InterruptedException, ExecutionException, TimeoutException {
+        ZigBeeBaseChannelConverter converter = new ZigBeeConverterSwitchLevel();
+
+        ZigBeeThingHandler thingHandler = Mockito.mock(ZigBeeThingHandler.class);
+        converter.thing = thingHandler;
+
+        ZigBeeEndpoint endpoint = Mockito.mock(ZigBeeEndpoint.class);
+        converter.endpoint = endpoint;
+
+        Command command = OnOffType.ON;
+        CommandResult success = Mockito.mock(CommandResult.class);
+
+        // The completion is only called once all responses are received
+        CompletableFuture<CommandResult> response1 = new CompletableFuture<>();
+        CompletableFuture<CommandResult> response2 = new CompletableFuture<>();
+        List<Future<CommandResult>> results = new ArrayList<>();
+        results.add(response1);
+        results.add(null);
+        results.add(response2);
+
+        CompletableFuture<Boolean> monitor = converter.monitorCommandResponseAsync(command, results);
+        response1.complete(success);
+        assertFalse(monitor.isDone());
+        Mockito.verify(thingHandler, times(0)).setChannelState(ArgumentMatchers.any(), ArgumentMatchers.any());
+
+        response2.complete(success);
+        assertTrue(monitor.get(1, TimeUnit.SECONDS));
+        Mockito.verify(thingHandler, times(1)).setChannelState(ArgumentMatchers.any(), ArgumentMatchers.any());
+        Mockito.verify(thingHandler, times(1)).alive();
+
+        // A timeout sets the thing OFFLINE
+        CommandResult timeout = Mockito.mock(CommandResult.class);
+        Mockito.when(timeout.isTimeout()).thenReturn(true);
+        monitor = converter.monitorCommandResponseAsync(command, CompletableFuture.completedFuture(timeout));
+        assertFalse(monitor.get(1, TimeUnit.SECONDS));
+        Mockito.verify(thingHandler, times(1)).aliveTimeoutReached();
+
+        // A CompletableFuture is chained directly rather than being polled
+        assertSame(response1, converter.toCompletableFuture(response1));
+
+        // A plain future is monitored until it completes
+        FutureTask<CommandResult> plainFuture = new FutureTask<>(() -> success);
+        monitor = converter.monitorCommandResponseAsync(command, plainFuture);
+        assertFalse(monitor.isDone());
+        plainFuture.run();
+        assertTrue(monitor.get(5, TimeUnit.SECONDS));
+        Mockito.verify(thingHandler, times(2)).setChannelState(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void monitorCommandResponseOptimistic() throws InterruptedException, ExecutionException, TimeoutException {
+        ZigBeeBaseChannelConverter converter = new ZigBeeConverterSwitchLevel();
+
+        ZigBeeThingHandler thingHandler = Mockito.mock(ZigBeeThingHandler.class);
+        converter.thing = thingHandler;
+
+        ZigBeeEndpoint endpoint = Mockito.mock(ZigBeeEndpoint.class);
+        converter.endpoint = endpoint;
+
+        ZigBeeCoordinatorHandler coordinator = Mockito.mock(ZigBeeCoordinatorHandler.class);
+        Mockito.when(coordinator.getOptimisticStateWindow()).thenReturn(10);
+        converter.coordinator = coordinator;
+
+        CommandResult success = Mockito.mock(CommandResult.class);
+        CommandResult error = Mockito.mock(CommandResult.class);
+        Mockito.when(error.isError()).thenReturn(true);
+
+        converter.updateChannelState(OnOffType.OFF);
+        Mockito.verify(thingHandler, times(1)).setChannelState(converter.channelUID, OnOffType.OFF);
+
+        // The state is updated before the response is received, and is not updated again on success
+        CompletableFuture<CommandResult> response = new CompletableFuture<>();
+        CompletableFuture<Boolean> monitor = converter.monitorCommandResponseAsync(OnOffType.ON, response);
+        Mockito.verify(thingHandler, times(1)).setChannelState(converter.channelUID, OnOffType.ON);
+        response.complete(success);
+        assertTrue(monitor.get(1, TimeUnit.SECONDS));
+        Mockito.verify(thingHandler, times(1)).setChannelState(converter.channelUID, OnOffType.ON);
+        Mockito.verify(thingHandler, times(1)).setChannelState(converter.channelUID, OnOffType.OFF);
+
+        // The state is rolled back if the command fails
+        response = new CompletableFuture<>();
+        monitor = converter.monitorCommandResponseAsync(OnOffType.OFF, response);
+        Mockito.verify(thingHandler, times(2)).setChannelState(converter.channelUID, OnOffType.OFF);
+        response.complete(error);
+        assertFalse(monitor.get(1, TimeUnit.SECONDS));
+        Mockito.verify(thingHandler, times(2)).setChannelState(converter.channelUID, OnOffType.ON);
+
+        // A state received from the device replaces the optimistic state and is not rolled back
+        response = new CompletableFuture<>();
+        monitor = converter.monitorCommandResponseAsync(OnOffType.OFF, response);
+        Mockito.verify(thingHandler, times(3)).setChannelState(converter.channelUID, OnOffType.OFF);
+        converter.updateChannelState(OnOffType.OFF);
+        response.complete(error);
+        assertFalse(monitor.get(1, TimeUnit.SECONDS));
+        Mockito.verify(thingHandler, times(4)).setChannelState(converter.channelUID, OnOffType.OFF);
+        Mockito.verify(thingHandler, times(2)).setChannelState(converter.channelUID, OnOffType.ON);
+    }
+
+    @Test
+    public void setReportingRecordsConfiguration() throws InterruptedException, ExecutionException {
+        ZigBeeBaseChannelConverter converter = new ZigBeeConverterSwitchLevel();
+
+        IeeeAddress ieeeAddress = new IeeeAddress("1234567890ABCDEF");
+        ZigBeeEndpoint endpoint = Mockito.mock(ZigBeeEndpoint.class);
+        Mockito.when(endpoint.getIeeeAddress()).thenReturn(ieeeAddress);
+        Mockito.when(endpoint.getEndpointId()).thenReturn(1);
+        converter.endpoint = endpoint;
+
+        Map<String, String> records = new HashMap<>();
+        ZigBeeCoordinatorHandler coordinator = Mockito.mock(ZigBeeCoordinatorHandler.class);
+        Mockito.when(coordinator.getDeviceConfiguration(ArgumentMatchers.eq(ieeeAddress), ArgumentMatchers.anyString()))
+                .thenAnswer(invocation -> records.get(invocation.getArgument(1)));
+        Mockito.doAnswer(invocation -> records.put(invocation.getArgument(1), invocation.getArgument(2)))
+                .when(coordinator).setDeviceConfiguration(ArgumentMatchers.eq(ieeeAddress),
+                        ArgumentMatchers.anyString(), ArgumentMatchers.anyString());
+        converter.coordinator = coordinator;
+
+        ZclCluster cluster = Mockito.mock(ZclCluster.class);
+        Mockito.when(cluster.getClusterId()).thenReturn(8);
+        ZclAttribute attribute = Mockito.mock(ZclAttribute.class);
+        Mockito.when(attribute.getCluster()).thenReturn(cluster);
+        Mockito.when(attribute.getId()).thenReturn(0);
+
+        CommandResult commandResult = Mockito.mock(CommandResult.class);
+        Mockito.when(commandResult.isSuccess()).thenReturn(true);
+        Future<CommandResult> future = Mockito.mock(Future.class);
+        Mockito.when(future.get()).thenReturn(commandResult);
+        Mockito.when(attribute.setReporting(ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.any())).thenReturn(future);
+
+        // First request is sent to the device and recorded
+        CommandResult result = converter.setReporting(attribute, 1, 7200, 1).get();
+        assertTrue(result.isSuccess());
+        assertFalse(ZigBeeBaseChannelConverter.isDeviceAlreadyConfigured(result));
+        Mockito.verify(attribute, times(1)).setReporting(1, 7200, 1);
+        assertEquals(1, records.size());
+
+        // Same configuration is not resent
+        result = converter.setReporting(attribute, 1, 7200, 1).get();
+        assertTrue(result.isSuccess());
+        assertTrue(ZigBeeBaseChannelConverter.isDeviceAlreadyConfigured(result));
+        Mockito.verify(attribute, times(1)).setReporting(1, 7200, 1);
+
+        // A different configuration is sent
+        assertTrue(converter.setReporting(attribute, 1, 3600, 1).get().isSuccess());
+        Mockito.verify(attribute, times(1)).setReporting(1, 3600, 1);
+
+        // Failed requests are not recorded
+        Mockito.when(commandResult.isSuccess()).thenReturn(false);
+        converter.setReporting(attribute, 5, 3600, 1).get();
+        converter.setReporting(attribute, 5, 3600, 1).get();
+        Mockito.verify(attribute, times(2)).setReporting(5, 3600, 1);
+    }
+
+    @Test
+    public void initializeDeviceIfRequired() {
+        IeeeAddress ieeeAddress = new IeeeAddress("1234567890ABCDEF");
+        ZigBeeEndpoint endpoint = Mockito.mock(ZigBeeEndpoint.class);
+        Mockito.when(endpoint.getIeeeAddress()).thenReturn(ieeeAddress);
+        Mockito.when(endpoint.getEndpointId()).thenReturn(1);
+
+        Map<String, String> records = new HashMap<>();
+        ZigBeeCoordinatorHandler coordinator = Mockito.mock(ZigBeeCoordinatorHandler.class);
+        Mockito.when(coordinator.getDeviceConfigurationLock(ieeeAddress)).thenReturn(new Object());
+        Mockito.when(coordinator.getDeviceConfiguration(ArgumentMatchers.eq(ieeeAddress), ArgumentMatchers.anyString()))
+                .thenAnswer(invocation -> records.get(invocation.getArgument(1)));
+        Mockito.doAnswer(invocation -> records.put(invocation.getArgument(1), invocation.getArgument(2)))
+                .when(coordinator).setDeviceConfiguration(ArgumentMatchers.eq(ieeeAddress),
+                        ArgumentMatchers.anyString(), ArgumentMatchers.anyString());
+
+        // The discovery service configures the device
+        InitializeDeviceConverter discoveryConverter = new InitializeDeviceConverter();
+        discoveryConverter.endpoint = endpoint;
+        discoveryConverter.coordinator = coordinator;
+        assertTrue(discoveryConverter.initializeDeviceIfRequired());
+        assertEquals(1, discoveryConverter.initializeCount);
+        assertEquals(1, records.size());
+
+        // The thing handler converter does not configure the device again
+        InitializeDeviceConverter handlerConverter = new InitializeDeviceConverter();
+        handlerConverter.endpoint = endpoint;
+        handlerConverter.coordinator = coordinator;
+        assertTrue(handlerConverter.initializeDeviceIfRequired());
+        assertEquals(0, handlerConverter.initializeCount);
+
+        // Failed configuration is not recorded so it is retried
+        records.clear();
+        handlerConverter.initializeResult = false;
+        assertFalse(handlerConverter.initializeDeviceIfRequired());
+        assertFalse(handlerConverter.initializeDeviceIfRequired());
+        assertEquals(2, handlerConverter.initializeCount);
+        assertTrue(records.isEmpty());
+    }
+
+    private static class InitializeDeviceConverter extends ZigBeeConverterSwitchLevel {
+        private int initializeCount = 0;
+        private boolean initializeResult = true;
+
+        @Override
+        public boolean initializeDevice() {
+            initializeCount++;
+            return initializeResult;
+        }
+    }
+
+    @Test
+    public void setReportingReconciliation() throws InterruptedException, ExecutionException {
+        ZigBeeBaseChannelConverter converter = new ZigBeeConverterSwitchLevel();
+
+        IeeeAddress ieeeAddress = new IeeeAddress("1234567890ABCDEF");
+        ZigBeeEndpoint endpoint = Mockito.mock(ZigBeeEndpoint.class);
+        Mockito.when(endpoint.getIeeeAddress()).thenReturn(ieeeAddress);
+        Mockito.when(endpoint.getEndpointId()).thenReturn(1);
+        converter.endpoint = endpoint;
+
+        ZigBeeCoordinatorHandler coordinator = Mockito.mock(ZigBeeCoordinatorHandler.class);
+        Mockito.when(coordinator.isReportingReconciliationEnabled()).thenReturn(true);
+        converter.coordinator = coordinator;
+
+        ZclCluster cluster = Mockito.mock(ZclCluster.class);
+        Mockito.when(cluster.getClusterId()).thenReturn(8);
+        ZclAttribute attribute = Mockito.mock(ZclAttribute.class);
+        Mockito.when(attribute.getCluster()).thenReturn(cluster);
+        Mockito.when(attribute.getId()).thenReturn(0);
+
+        // The device is already configured with a minimum of 1, maximum of 7200 and change of 1
+        AttributeReportingConfigurationRecord record = Mockito.mock(AttributeReportingConfigurationRecord.class);
+        Mockito.when(record.getStatus()).thenReturn(ZclStatus.SUCCESS);
+        Mockito.when(record.getAttributeIdentifier()).thenReturn(0);
+        Mockito.when(record.getMinimumReportingInterval()).thenReturn(1);
+        Mockito.when(record.getMaximumReportingInterval()).thenReturn(7200);
+        Mockito.when(record.getReportableChange()).thenReturn(1);
+        ReadReportingConfigurationResponse response = Mockito.mock(ReadReportingConfigurationResponse.class);
+        Mockito.when(response.getRecords()).thenReturn(Collections.singletonList(record));
+        CommandResult readResult = new CommandResult(ZigBeeStatus.SUCCESS, response);
+        Future<CommandResult> readFuture = Mockito.mock(Future.class);
+        Mockito.when(readFuture.get()).thenReturn(readResult);
+        Mockito.when(cluster.sendCommand(ArgumentMatchers.any(ReadReportingConfigurationCommand.class)))
+                .thenReturn(readFuture);
+
+        CommandResult commandResult = Mockito.mock(CommandResult.class);
+        Mockito.when(commandResult.isSuccess()).thenReturn(true);
+        Future<CommandResult> future = Mockito.mock(Future.class);
+        Mockito.when(future.get()).thenReturn(commandResult);
+        Mockito.when(attribute.setReporting(ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.any())).thenReturn(future);
+
+        // Matching configuration is not sent, and is recorded
+        assertTrue(converter.setReporting(attribute, 1, 7200, 1L).get().isSuccess());
+        Mockito.verify(attribute, times(0)).setReporting(ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.any());
+        Mockito.verify(coordinator, times(1)).setDeviceConfiguration(ArgumentMatchers.eq(ieeeAddress),
+                ArgumentMatchers.anyString(), ArgumentMatchers.eq("1,7200,1"));
+
+        // Different configuration is sent, without reading the device again
+        converter.setReporting(attribute, 1, 3600, 1).get();
+        Mockito.verify(attribute, times(1)).setReporting(1, 3600, 1);
+        Mockito.verify(cluster, times(1)).sendCommand(ArgumentMatchers.any(ReadReportingConfigurationCommand.class));
+    }
 }
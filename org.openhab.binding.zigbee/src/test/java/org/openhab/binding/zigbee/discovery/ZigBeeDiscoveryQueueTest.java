@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zigbee.discovery;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeDiscoveryQueueTest {
+
+    @Test
+    public void testPriorityAndDuplicates() throws InterruptedException {
+        ZigBeeDiscoveryQueue queue = new ZigBeeDiscoveryQueue(1);
+
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch complete = new CountDownLatch(4);
+
+        // Block the single thread so that subsequent jobs are queued
+        assertTrue(queue.schedule(new IeeeAddress("0000000000000000"), false, () -> {
+            started.countDown();
+            try {
+                blocker.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+            }
+            complete.countDown();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertTrue(queue.schedule(new IeeeAddress("1111111111111111"), false, () -> {
+            order.add("existing1");
+            complete.countDown();
+        }));
+        assertTrue(queue.schedule(new IeeeAddress("2222222222222222"), false, () -> {
+            order.add("existing2");
+            complete.countDown();
+        }));
+        assertTrue(queue.schedule(new IeeeAddress("3333333333333333"), true, () -> {
+            order.add("announced3");
+            complete.countDown();
+        }));
+
+        // A node that is already queued is not queued again
+        assertFalse(queue.schedule(new IeeeAddress("1111111111111111"), false, () -> order.add("duplicate")));
+        assertFalse(queue.schedule(new IeeeAddress("3333333333333333"), true, () -> order.add("duplicate")));
+        assertEquals(3, queue.getQueueDepth());
+
+        // A queued node that announces itself is moved ahead of the other nodes
+        assertTrue(queue.schedule(new IeeeAddress("2222222222222222"), true, () -> {
+            order.add("announced2");
+            complete.countDown();
+        }));
+        assertEquals(3, queue.getQueueDepth());
+
+        blocker.countDown();
+        assertTrue(complete.await(5, TimeUnit.SECONDS));
+
+        assertEquals(3, order.size());
+        assertEquals("announced2", order.get(0));
+        assertEquals("announced3", order.get(1));
+        assertEquals("existing1", order.get(2));
+        assertEquals(0, queue.getQueueDepth());
+
+        queue.shutdown();
+    }
+
+    @Test
+    public void testConcurrency() throws InterruptedException {
+        ZigBeeDiscoveryQueue queue = new ZigBeeDiscoveryQueue(1);
+        assertEquals(1, queue.getConcurrency());
+        queue.setConcurrency(2);
+        assertEquals(2, queue.getConcurrency());
+
+        // Both discoveries must run at the same time for either to complete
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch complete = new CountDownLatch(2);
+        for (String address : new String[] { "1111111111111111", "2222222222222222" }) {
+            assertTrue(queue.schedule(new IeeeAddress(address), false, () -> {
+                running.countDown();
+                try {
+                    if (running.await(5, TimeUnit.SECONDS)) {
+                        complete.countDown();
+                    }
+                } catch (InterruptedException e) {
+                }
+            }));
+        }
+        assertTrue(complete.await(5, TimeUnit.SECONDS));
+
+        queue.setConcurrency(0);
+        assertEquals(1, queue.getConcurrency());
+
+        queue.shutdown();
+        assertFalse(queue.schedule(new IeeeAddress("3333333333333333"), false, () -> {
+        }));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zigbee.discovery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.openhab.binding.zigbee.ZigBeeBindingConstants;
+import org.openhab.core.thing.Thing;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeEndpoint;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclBasicCluster;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeNodePropertyDiscovererTest {
+
+    private ZclAttribute getAttribute(Object value) {
+        ZclAttribute attribute = Mockito.mock(ZclAttribute.class);
+        Mockito.when(attribute.isLastValueCurrent(ArgumentMatchers.anyLong())).thenReturn(true);
+        Mockito.when(attribute.getLastValue()).thenReturn(value);
+        return attribute;
+    }
+
+    @Test
+    public void getPropertiesCached() {
+        IeeeAddress ieeeAddress = new IeeeAddress("1234567890ABCDEF");
+
+        ZclBasicCluster basicCluster = Mockito.mock(ZclBasicCluster.class);
+        ZclAttribute manufacturer = getAttribute(" Vendor ");
+        Mockito.when(basicCluster.getAttribute(ArgumentMatchers.anyInt())).thenReturn(getAttribute(1));
+        Mockito.when(basicCluster.getAttribute(ZclBasicCluster.ATTR_MANUFACTURERNAME)).thenReturn(manufacturer);
+        Mockito.when(basicCluster.getAttribute(ZclBasicCluster.ATTR_MODELIDENTIFIER))
+                .thenReturn(getAttribute("Model"));
+        Mockito.when(basicCluster.getAttribute(ZclBasicCluster.ATTR_DATECODE)).thenReturn(getAttribute("20250101"));
+
+        ZigBeeEndpoint endpoint = Mockito.mock(ZigBeeEndpoint.class);
+        Mockito.when(endpoint.getInputCluster(ZclBasicCluster.CLUSTER_ID)).thenReturn(basicCluster);
+
+        ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node.getIeeeAddress()).thenReturn(ieeeAddress);
+        Mockito.when(node.getNetworkAddress()).thenReturn(1234);
+        Mockito.when(node.getEndpoints()).thenReturn(Collections.singletonList(endpoint));
+
+        ZigBeeNodePropertyCache cache = new ZigBeeNodePropertyCache();
+
+        ZigBeeNodePropertyDiscoverer discoverer = new ZigBeeNodePropertyDiscoverer();
+        discoverer.setPropertyCache(cache);
+        Map<String, String> properties = discoverer.getProperties(node);
+        assertEquals("Vendor", properties.get(Thing.PROPERTY_VENDOR));
+        assertEquals("Model", properties.get(Thing.PROPERTY_MODEL_ID));
+        assertEquals("1", properties.get(Thing.PROPERTY_HARDWARE_VERSION));
+        assertEquals("20250101", properties.get(ZigBeeBindingConstants.THING_PROPERTY_DATECODE));
+        assertEquals("1234", properties.get(ZigBeeBindingConstants.THING_PROPERTY_NETWORKADDRESS));
+        assertEquals("Vendor", cache.get(ieeeAddress).get(Thing.PROPERTY_VENDOR));
+        Mockito.verify(basicCluster, Mockito.times(1)).readAttributes(ArgumentMatchers.anyList());
+
+        // A new discoverer uses the cached properties without reading from the device
+        Mockito.when(manufacturer.getLastValue()).thenReturn("NewVendor");
+        discoverer = new ZigBeeNodePropertyDiscoverer();
+        discoverer.setPropertyCache(cache);
+        properties = discoverer.getProperties(node);
+        assertEquals("Vendor", properties.get(Thing.PROPERTY_VENDOR));
+        assertEquals("Model", properties.get(Thing.PROPERTY_MODEL_ID));
+        Mockito.verify(basicCluster, Mockito.times(1)).readAttributes(ArgumentMatchers.anyList());
+
+        // Once invalidated, the properties are read from the device again
+        cache.invalidate(ieeeAddress);
+        discoverer = new ZigBeeNodePropertyDiscoverer();
+        discoverer.setPropertyCache(cache);
+        properties = discoverer.getProperties(node);
+        assertEquals("NewVendor", properties.get(Thing.PROPERTY_VENDOR));
+        Mockito.verify(basicCluster, Mockito.times(2)).readAttributes(ArgumentMatchers.anyList());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zigbee.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.IncreaseDecreaseType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.types.Command;
+import org.openhab.core.types.RefreshType;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeChannelCommandMailboxTest {
+    private final Executor directExecutor = Runnable::run;
+
+    @Test
+    public void testCoalescing() {
+        List<Command> sent = new ArrayList<>();
+        List<CompletableFuture<Void>> responses = new ArrayList<>();
+
+        ZigBeeChannelCommandMailbox mailbox = new ZigBeeChannelCommandMailbox(
+                new ChannelUID("zigbee:device:bridge:thing:channel"), command -> {
+                    sent.add(command);
+                    CompletableFuture<Void> response = new CompletableFuture<>();
+                    responses.add(response);
+                    return response;
+                });
+
+        // The first command is sent immediately
+        mailbox.submit(new PercentType(10), directExecutor);
+        assertEquals(1, sent.size());
+        assertEquals(0, mailbox.getQueueLength());
+
+        // Subsequent absolute commands supersede each other while the first is in progress
+        mailbox.submit(new PercentType(20), directExecutor);
+        mailbox.submit(new PercentType(30), directExecutor);
+        mailbox.submit(new PercentType(40), directExecutor);
+        assertEquals(1, sent.size());
+        assertEquals(1, mailbox.getQueueLength());
+
+        // Relative commands, and commands of different types, are retained in order
+        mailbox.submit(IncreaseDecreaseType.INCREASE, directExecutor);
+        mailbox.submit(IncreaseDecreaseType.INCREASE, directExecutor);
+        mailbox.submit(OnOffType.OFF, directExecutor);
+        mailbox.submit(RefreshType.REFRESH, directExecutor);
+        mailbox.submit(RefreshType.REFRESH, directExecutor);
+        assertEquals(5, mailbox.getQueueLength());
+
+        // Complete each command in turn
+        while (responses.size() > 0) {
+            responses.remove(0).complete(null);
+        }
+
+        assertEquals(0, mailbox.getQueueLength());
+        assertEquals(6, sent.size());
+        assertEquals(new PercentType(10), sent.get(0));
+        assertEquals(new PercentType(40), sent.get(1));
+        assertEquals(IncreaseDecreaseType.INCREASE, sent.get(2));
+        assertEquals(IncreaseDecreaseType.INCREASE, sent.get(3));
+        assertEquals(OnOffType.OFF, sent.get(4));
+        assertEquals(RefreshType.REFRESH, sent.get(5));
+
+        // The mailbox is idle so the next command is sent immediately
+        mailbox.submit(new PercentType(50), directExecutor);
+        assertEquals(7, sent.size());
+        assertEquals(new PercentType(50), sent.get(6));
+    }
+
+    @Test
+    public void testProcessorFailure() {
+        List<Command> sent = new ArrayList<>();
+
+        ZigBeeChannelCommandMailbox mailbox = new ZigBeeChannelCommandMailbox(
+                new ChannelUID("zigbee:device:bridge:thing:channel"), command -> {
+                    sent.add(command);
+                    if (command == OnOffType.ON) {
+                        throw new IllegalStateException();
+                    }
+                    return null;
+                });
+
+        mailbox.submit(OnOffType.ON, directExecutor);
+        mailbox.submit(OnOffType.OFF, directExecutor);
+
+        assertEquals(2, sent.size());
+        assertEquals(0, mailbox.getQueueLength());
+    }
+}
@@ -12,18 +12,32 @@
  */
 package org.openhab.binding.zigbee.handler;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.openhab.binding.zigbee.ZigBeeBindingConstants;
+import org.openhab.binding.zigbee.discovery.ZigBeeNodePropertyCache;
+import org.openhab.binding.zigbee.internal.ZigBeeDataStore;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.thing.Bridge;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.BaseThingHandler;
+import org.slf4j.LoggerFactory;
 
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
+import com.zsmartsystems.zigbee.ZigBeeNodeStatus;
 import com.zsmartsystems.zigbee.ZigBeeStatus;
 import com.zsmartsystems.zigbee.security.ZigBeeKey;
 
@@ -55,4 +69,135 @@ public class ZigBeeCoordinatorHandlerTest {
         assertEquals(new ZigBeeKey("A833A77434F3BFBD7A7AB97942149287"), keyCapture.getValue());
     }
 
+    @Test
+    public void testVirtualThreadExecutor() throws Exception {
+        ZigBeeCoordinatorHandler handler = Mockito.mock(ZigBeeCoordinatorHandler.class, Mockito.CALLS_REAL_METHODS);
+
+        Field fieldLogger = ZigBeeCoordinatorHandler.class.getDeclaredField("logger");
+        fieldLogger.setAccessible(true);
+        fieldLogger.set(handler, LoggerFactory.getLogger(ZigBeeCoordinatorHandler.class));
+
+        Thing thing = Mockito.mock(Thing.class);
+        Mockito.when(thing.getUID()).thenReturn(new ThingUID("zigbee:coordinator:test"));
+        Field fieldThing = BaseThingHandler.class.getDeclaredField("thing");
+        fieldThing.setAccessible(true);
+        fieldThing.set(handler, thing);
+
+        Method setVirtualThreads = ZigBeeCoordinatorHandler.class.getDeclaredMethod("setVirtualThreads",
+                boolean.class);
+        setVirtualThreads.setAccessible(true);
+
+        assertNull(handler.getCommandExecutor());
+        setVirtualThreads.invoke(handler, true);
+        ExecutorService executor = handler.getCommandExecutor();
+        assertNotNull(executor);
+
+        setVirtualThreads.invoke(handler, false);
+        assertNull(handler.getCommandExecutor());
+        assertTrue(executor.isShutdown());
+    }
+
+    @Test
+    public void testChildAddressIndex() throws Exception {
+        ZigBeeCoordinatorHandler handler = Mockito.mock(ZigBeeCoordinatorHandler.class, Mockito.CALLS_REAL_METHODS);
+
+        Field fieldLogger = ZigBeeCoordinatorHandler.class.getDeclaredField("logger");
+        fieldLogger.setAccessible(true);
+        fieldLogger.set(handler, LoggerFactory.getLogger(ZigBeeCoordinatorHandler.class));
+        Field fieldChildren = ZigBeeCoordinatorHandler.class.getDeclaredField("children");
+        fieldChildren.setAccessible(true);
+        fieldChildren.set(handler, new ConcurrentHashMap<>());
+        Field fieldChildAddresses = ZigBeeCoordinatorHandler.class.getDeclaredField("childAddresses");
+        fieldChildAddresses.setAccessible(true);
+        fieldChildAddresses.set(handler, new ConcurrentHashMap<>());
+
+        Thing coordinatorThing = Mockito.mock(Thing.class);
+        Mockito.when(coordinatorThing.getUID()).thenReturn(new ThingUID("zigbee:coordinator:test"));
+        Field fieldThing = BaseThingHandler.class.getDeclaredField("thing");
+        fieldThing.setAccessible(true);
+        fieldThing.set(handler, coordinatorThing);
+
+        IeeeAddress address = new IeeeAddress("1234567890ABCDEF");
+        ThingUID childUID = new ThingUID("zigbee:device:test:1234567890abcdef");
+        Thing childThing = Mockito.mock(Thing.class);
+        Mockito.when(childThing.getUID()).thenReturn(childUID);
+        Mockito.when(childThing.getConfiguration()).thenReturn(new Configuration(
+                Collections.singletonMap(ZigBeeBindingConstants.CONFIGURATION_MACADDRESS, "1234567890ABCDEF")));
+        ZigBeeThingHandler childHandler = Mockito.mock(ZigBeeThingHandler.class);
+        Mockito.when(childHandler.isDeviceInitialized()).thenReturn(true);
+
+        assertNull(handler.getChildThingUID(address));
+        assertNull(handler.getChildHandler(address));
+        assertFalse(handler.isChildInitialized(address));
+
+        handler.childHandlerInitialized(childHandler, childThing);
+        assertEquals(childUID, handler.getChildThingUID(address));
+        assertEquals(childHandler, handler.getChildHandler(address));
+        assertTrue(handler.isChildInitialized(address));
+        assertNull(handler.getChildThingUID(new IeeeAddress("000D6F0000123456")));
+
+        // The child is removed from the index even if its configuration has changed
+        Mockito.when(childThing.getConfiguration()).thenReturn(new Configuration());
+        handler.childHandlerDisposed(childHandler, childThing);
+        assertNull(handler.getChildThingUID(address));
+        assertNull(handler.getChildHandler(address));
+        assertFalse(handler.isChildInitialized(address));
+    }
+
+    @Test
+    public void testChildThingAddresses() throws Exception {
+        ZigBeeCoordinatorHandler handler = Mockito.mock(ZigBeeCoordinatorHandler.class, Mockito.CALLS_REAL_METHODS);
+
+        Field fieldLogger = ZigBeeCoordinatorHandler.class.getDeclaredField("logger");
+        fieldLogger.setAccessible(true);
+        fieldLogger.set(handler, LoggerFactory.getLogger(ZigBeeCoordinatorHandler.class));
+
+        // Child things are found from their configuration, whether or not their handler has been initialised
+        Thing childThing = Mockito.mock(Thing.class);
+        Mockito.when(childThing.getConfiguration()).thenReturn(new Configuration(
+                Collections.singletonMap(ZigBeeBindingConstants.CONFIGURATION_MACADDRESS, "1234567890ABCDEF")));
+        Thing groupThing = Mockito.mock(Thing.class);
+        Mockito.when(groupThing.getConfiguration()).thenReturn(new Configuration());
+        Bridge coordinatorThing = Mockito.mock(Bridge.class);
+        Mockito.when(coordinatorThing.getUID()).thenReturn(new ThingUID("zigbee:coordinator:test"));
+        Mockito.when(coordinatorThing.getThings()).thenReturn(Arrays.asList(childThing, groupThing));
+        Field fieldThing = BaseThingHandler.class.getDeclaredField("thing");
+        fieldThing.setAccessible(true);
+        fieldThing.set(handler, coordinatorThing);
+
+        assertEquals(Collections.singleton(new IeeeAddress("1234567890ABCDEF")), handler.getChildThingAddresses());
+    }
+
+    @Test
+    public void testDeviceStatusUpdateClearsConfiguration() throws Exception {
+        ZigBeeCoordinatorHandler handler = Mockito.mock(ZigBeeCoordinatorHandler.class, Mockito.CALLS_REAL_METHODS);
+
+        Field fieldLogger = ZigBeeCoordinatorHandler.class.getDeclaredField("logger");
+        fieldLogger.setAccessible(true);
+        fieldLogger.set(handler, LoggerFactory.getLogger(ZigBeeCoordinatorHandler.class));
+        Field fieldPropertyCache = ZigBeeCoordinatorHandler.class.getDeclaredField("nodePropertyCache");
+        fieldPropertyCache.setAccessible(true);
+        fieldPropertyCache.set(handler, new ZigBeeNodePropertyCache());
+        ZigBeeDataStore dataStore = Mockito.mock(ZigBeeDataStore.class);
+        Field fieldDataStore = ZigBeeCoordinatorHandler.class.getDeclaredField("networkDataStore");
+        fieldDataStore.setAccessible(true);
+        fieldDataStore.set(handler, dataStore);
+
+        IeeeAddress address = new IeeeAddress("1234567890ABCDEF");
+        ZigBeeThingHandler childHandler = Mockito.mock(ZigBeeThingHandler.class);
+        Mockito.doReturn(childHandler).when(handler).getChildHandler(address);
+
+        // A secured rejoin retains the device configuration
+        handler.deviceStatusUpdate(ZigBeeNodeStatus.SECURED_REJOIN, 1234, address);
+        Mockito.verify(dataStore, Mockito.never()).removeDeviceConfiguration(address);
+        Mockito.verify(childHandler, Mockito.never()).deviceReset();
+
+        // A device that has been reset must be configured again
+        handler.deviceStatusUpdate(ZigBeeNodeStatus.UNSECURED_JOIN, 1234, address);
+        Mockito.verify(dataStore, Mockito.times(1)).removeDeviceConfiguration(address);
+        Mockito.verify(childHandler, Mockito.times(1)).deviceReset();
+        handler.deviceStatusUpdate(ZigBeeNodeStatus.UNSECURED_REJOIN, 1234, address);
+        Mockito.verify(dataStore, Mockito.times(2)).removeDeviceConfiguration(address);
+        Mockito.verify(childHandler, Mockito.times(2)).deviceReset();
+    }
 }
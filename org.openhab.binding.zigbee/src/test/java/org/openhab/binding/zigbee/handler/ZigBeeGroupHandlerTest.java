@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zigbee.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.openhab.binding.zigbee.ZigBeeBindingConstants;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.thing.Channel;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingStatusInfo;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.ThingHandlerCallback;
+
+import com.zsmartsystems.zigbee.CommandResult;
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeEndpoint;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclGroupsCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclOnOffCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.groups.RemoveGroupCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.levelcontrol.MoveToLevelWithOnOffCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OffCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OnCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.scenes.RecallSceneCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.scenes.StoreSceneCommand;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeGroupHandlerTest {
+    private ThingHandlerCallback callback;
+
+    @Test
+    public void parseMembers() {
+        Set<IeeeAddress> members = ZigBeeGroupHandler
+                .parseMembers("1234567890ABCDEF, 000D6F0000123456,,INVALID,1234567890ABCDEF");
+        assertEquals(2, members.size());
+        assertTrue(members.contains(new IeeeAddress("1234567890ABCDEF")));
+        assertTrue(members.contains(new IeeeAddress("000D6F0000123456")));
+
+        assertTrue(ZigBeeGroupHandler.parseMembers(null).isEmpty());
+        assertTrue(ZigBeeGroupHandler.parseMembers(" ").isEmpty());
+    }
+
+    @Test
+    public void handleCommand() throws Exception {
+        ThingUID thingUID = new ThingUID("zigbee:group:coordinator:group1");
+        ChannelUID switchUID = new ChannelUID(thingUID, "switch");
+        ChannelUID dimmerUID = new ChannelUID(thingUID, "dimmer");
+        ChannelUID colorUID = new ChannelUID(thingUID, "color");
+
+        Channel switchChannel = Mockito.mock(Channel.class);
+        Mockito.when(switchChannel.getChannelTypeUID()).thenReturn(ZigBeeBindingConstants.CHANNEL_SWITCH_ONOFF);
+        Channel dimmerChannel = Mockito.mock(Channel.class);
+        Mockito.when(dimmerChannel.getChannelTypeUID()).thenReturn(ZigBeeBindingConstants.CHANNEL_SWITCH_LEVEL);
+        Channel colorChannel = Mockito.mock(Channel.class);
+        Mockito.when(colorChannel.getChannelTypeUID()).thenReturn(ZigBeeBindingConstants.CHANNEL_COLOR_COLOR);
+
+        Thing thing = Mockito.mock(Thing.class);
+        Mockito.when(thing.getUID()).thenReturn(thingUID);
+        Mockito.when(thing.getChannel(switchUID)).thenReturn(switchChannel);
+        Mockito.when(thing.getChannel(dimmerUID)).thenReturn(dimmerChannel);
+        Mockito.when(thing.getChannel(colorUID)).thenReturn(colorChannel);
+
+        ZigBeeGroupHandler handler = new ZigBeeGroupHandler(thing);
+
+        IeeeAddress member1 = new IeeeAddress("1234567890ABCDEF");
+        IeeeAddress member2 = new IeeeAddress("000D6F0000123456");
+        ZigBeeThingHandler memberHandler = Mockito.mock(ZigBeeThingHandler.class);
+
+        ZigBeeCoordinatorHandler coordinator = Mockito.mock(ZigBeeCoordinatorHandler.class);
+        Mockito.when(coordinator.getChildHandler(member1)).thenReturn(memberHandler);
+
+        Field fieldCoordinator = ZigBeeGroupHandler.class.getDeclaredField("coordinatorHandler");
+        fieldCoordinator.setAccessible(true);
+        fieldCoordinator.set(handler, coordinator);
+        Field fieldGroupId = ZigBeeGroupHandler.class.getDeclaredField("groupId");
+        fieldGroupId.setAccessible(true);
+        fieldGroupId.set(handler, 0x1234);
+        Field fieldMembers = ZigBeeGroupHandler.class.getDeclaredField("members");
+        fieldMembers.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        Set<IeeeAddress> members = (Set<IeeeAddress>) fieldMembers.get(handler);
+        members.add(member1);
+        members.add(member2);
+
+        // A single multicast command is sent for the group, and the known members are updated
+        ArgumentCaptor<ZclCommand> commandCapture = ArgumentCaptor.forClass(ZclCommand.class);
+        handler.handleCommand(switchUID, OnOffType.ON);
+        Mockito.verify(coordinator, Mockito.times(1)).sendGroupCommand(ArgumentMatchers.eq(0x1234),
+                commandCapture.capture());
+        assertTrue(commandCapture.getValue() instanceof OnCommand);
+        Mockito.verify(memberHandler, Mockito.times(1)).updateGroupState(ZigBeeBindingConstants.CHANNEL_SWITCH_ONOFF,
+                OnOffType.ON);
+
+        handler.handleCommand(dimmerUID, new PercentType(50));
+        Mockito.verify(coordinator, Mockito.times(2)).sendGroupCommand(ArgumentMatchers.eq(0x1234),
+                commandCapture.capture());
+        assertTrue(commandCapture.getValue() instanceof MoveToLevelWithOnOffCommand);
+        Mockito.verify(memberHandler, Mockito.times(1)).updateGroupState(ZigBeeBindingConstants.CHANNEL_SWITCH_LEVEL,
+                new PercentType(50));
+
+        // A color with zero brightness switches the members off
+        HSBType off = new HSBType(new DecimalType(120), new PercentType(100), PercentType.ZERO);
+        handler.handleCommand(colorUID, off);
+        Mockito.verify(coordinator, Mockito.times(3)).sendGroupCommand(ArgumentMatchers.eq(0x1234),
+                commandCapture.capture());
+        assertTrue(commandCapture.getValue() instanceof OffCommand);
+        Mockito.verify(memberHandler, Mockito.times(1)).updateGroupState(ZigBeeBindingConstants.CHANNEL_COLOR_COLOR,
+                off);
+    }
+
+    @Test
+    public void handleSceneCommand() throws Exception {
+        ThingUID thingUID = new ThingUID("zigbee:group:coordinator:group1");
+        ChannelUID recallUID = new ChannelUID(thingUID, "scenerecall");
+        ChannelUID storeUID = new ChannelUID(thingUID, "scenestore");
+
+        Channel recallChannel = Mockito.mock(Channel.class);
+        Mockito.when(recallChannel.getChannelTypeUID()).thenReturn(ZigBeeBindingConstants.CHANNEL_GROUP_SCENERECALL);
+        Channel storeChannel = Mockito.mock(Channel.class);
+        Mockito.when(storeChannel.getChannelTypeUID()).thenReturn(ZigBeeBindingConstants.CHANNEL_GROUP_SCENESTORE);
+
+        Thing thing = Mockito.mock(Thing.class);
+        Mockito.when(thing.getUID()).thenReturn(thingUID);
+        Mockito.when(thing.getChannel(recallUID)).thenReturn(recallChannel);
+        Mockito.when(thing.getChannel(storeUID)).thenReturn(storeChannel);
+
+        ZigBeeGroupHandler handler = new ZigBeeGroupHandler(thing);
+        ZigBeeCoordinatorHandler coordinator = Mockito.mock(ZigBeeCoordinatorHandler.class);
+
+        Field fieldCoordinator = ZigBeeGroupHandler.class.getDeclaredField("coordinatorHandler");
+        fieldCoordinator.setAccessible(true);
+        fieldCoordinator.set(handler, coordinator);
+        Field fieldGroupId = ZigBeeGroupHandler.class.getDeclaredField("groupId");
+        fieldGroupId.setAccessible(true);
+        fieldGroupId.set(handler, 0x1234);
+
+        ArgumentCaptor<ZclCommand> commandCapture = ArgumentCaptor.forClass(ZclCommand.class);
+        handler.handleCommand(storeUID, new DecimalType(3));
+        Mockito.verify(coordinator, Mockito.times(1)).sendGroupCommand(ArgumentMatchers.eq(0x1234),
+                commandCapture.capture());
+        assertTrue(commandCapture.getValue() instanceof StoreSceneCommand);
+        assertEquals(Integer.valueOf(3), ((StoreSceneCommand) commandCapture.getValue()).getSceneId());
+
+        handler.handleCommand(recallUID, new DecimalType(3));
+        Mockito.verify(coordinator, Mockito.times(2)).sendGroupCommand(ArgumentMatchers.eq(0x1234),
+                commandCapture.capture());
+        assertTrue(commandCapture.getValue() instanceof RecallSceneCommand);
+        assertEquals(Integer.valueOf(0x1234), ((RecallSceneCommand) commandCapture.getValue()).getGroupId());
+
+        // Out of range scenes are ignored
+        handler.handleCommand(recallUID, new DecimalType(256));
+        Mockito.verify(coordinator, Mockito.times(2)).sendGroupCommand(ArgumentMatchers.anyInt(),
+                ArgumentMatchers.any());
+    }
+
+    @Test
+    public void handleConfigurationUpdateRemovesMembers() throws Exception {
+        IeeeAddress member1 = new IeeeAddress("1234567890ABCDEF");
+        IeeeAddress member2 = new IeeeAddress("000D6F0000123456");
+        ZclGroupsCluster groupsCluster = Mockito.mock(ZclGroupsCluster.class);
+        ZigBeeCoordinatorHandler coordinator = getCoordinator(groupsCluster, member1, member2);
+        ZigBeeGroupHandler handler = getHandler(coordinator, member1, member2);
+
+        Map<String, Object> configuration = new HashMap<>();
+        configuration.put(ZigBeeBindingConstants.CONFIGURATION_GROUPID, new BigDecimal(0x1234));
+        configuration.put(ZigBeeBindingConstants.CONFIGURATION_GROUPMEMBERS, member1.toString());
+        handler.handleConfigurationUpdate(configuration);
+
+        // Only the member removed from the configuration has the group removed
+        ArgumentCaptor<ZclCommand> commandCapture = ArgumentCaptor.forClass(ZclCommand.class);
+        Mockito.verify(groupsCluster, Mockito.timeout(5000).times(1)).sendCommand(commandCapture.capture());
+        assertTrue(commandCapture.getValue() instanceof RemoveGroupCommand);
+        assertEquals(Integer.valueOf(0x1234), ((RemoveGroupCommand) commandCapture.getValue()).getGroupId());
+        Mockito.verify(coordinator, Mockito.timeout(5000).times(1)).clearDeviceConfiguration(member2, "group:1:1234");
+        Mockito.verify(coordinator, Mockito.never()).clearDeviceConfiguration(ArgumentMatchers.eq(member1),
+                ArgumentMatchers.anyString());
+    }
+
+    @Test
+    public void handleRemoval() throws Exception {
+        IeeeAddress member1 = new IeeeAddress("1234567890ABCDEF");
+        IeeeAddress member2 = new IeeeAddress("000D6F0000123456");
+        ZclGroupsCluster groupsCluster = Mockito.mock(ZclGroupsCluster.class);
+        ZigBeeCoordinatorHandler coordinator = getCoordinator(groupsCluster, member1, member2);
+        ZigBeeGroupHandler handler = getHandler(coordinator, member1, member2);
+
+        handler.handleRemoval();
+
+        // The group is removed from all members before the thing is removed
+        Mockito.verify(groupsCluster, Mockito.timeout(5000).times(2))
+                .sendCommand(ArgumentMatchers.any(RemoveGroupCommand.class));
+        Mockito.verify(coordinator, Mockito.timeout(5000).times(1)).clearDeviceConfiguration(member1, "group:1:1234");
+        Mockito.verify(coordinator, Mockito.timeout(5000).times(1)).clearDeviceConfiguration(member2, "group:1:1234");
+        ArgumentCaptor<ThingStatusInfo> statusCapture = ArgumentCaptor.forClass(ThingStatusInfo.class);
+        Mockito.verify(callback, Mockito.timeout(5000).times(1)).statusUpdated(ArgumentMatchers.any(Thing.class),
+                statusCapture.capture());
+        assertEquals(ThingStatus.REMOVED, statusCapture.getValue().getStatus());
+    }
+
+    private ZigBeeCoordinatorHandler getCoordinator(ZclGroupsCluster groupsCluster, IeeeAddress... members) {
+        CommandResult result = Mockito.mock(CommandResult.class);
+        Mockito.when(result.isSuccess()).thenReturn(true);
+        Mockito.when(groupsCluster.sendCommand(ArgumentMatchers.any()))
+                .thenReturn(CompletableFuture.completedFuture(result));
+
+        ZigBeeEndpoint endpoint = Mockito.mock(ZigBeeEndpoint.class);
+        Mockito.when(endpoint.getEndpointId()).thenReturn(1);
+        Mockito.when(endpoint.getInputCluster(ZclOnOffCluster.CLUSTER_ID))
+                .thenReturn(Mockito.mock(ZclOnOffCluster.class));
+        Mockito.when(endpoint.getInputCluster(ZclGroupsCluster.CLUSTER_ID)).thenReturn(groupsCluster);
+
+        ZigBeeCoordinatorHandler coordinator = Mockito.mock(ZigBeeCoordinatorHandler.class);
+        for (IeeeAddress member : members) {
+            ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+            Mockito.when(node.getEndpoints()).thenReturn(Collections.singletonList(endpoint));
+            Mockito.when(coordinator.getNode(member)).thenReturn(node);
+        }
+        return coordinator;
+    }
+
+    private ZigBeeGroupHandler getHandler(ZigBeeCoordinatorHandler coordinator, IeeeAddress... groupMembers)
+            throws Exception {
+        Thing thing = Mockito.mock(Thing.class);
+        Mockito.when(thing.getUID()).thenReturn(new ThingUID("zigbee:group:coordinator:group1"));
+        Mockito.when(thing.getConfiguration()).thenReturn(new Configuration());
+
+        ZigBeeGroupHandler handler = new ZigBeeGroupHandler(thing);
+        callback = Mockito.mock(ThingHandlerCallback.class);
+        handler.setCallback(callback);
+
+        Field fieldCoordinator = ZigBeeGroupHandler.class.getDeclaredField("coordinatorHandler");
+        fieldCoordinator.setAccessible(true);
+        fieldCoordinator.set(handler, coordinator);
+        Field fieldGroupId = ZigBeeGroupHandler.class.getDeclaredField("groupId");
+        fieldGroupId.setAccessible(true);
+        fieldGroupId.set(handler, 0x1234);
+        Field fieldMembers = ZigBeeGroupHandler.class.getDeclaredField("members");
+        fieldMembers.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        Set<IeeeAddress> members = (Set<IeeeAddress>) fieldMembers.get(handler);
+        members.addAll(Arrays.asList(groupMembers));
+        return handler;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zigbee.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.openhab.binding.zigbee.handler.ZigBeeIsAliveTracker.LivenessState;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingUID;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeIsAliveTrackerTest {
+    private static final int INTERVAL = 60;
+
+    private ZigBeeThingHandler mockHandler(int id) {
+        Thing thing = Mockito.mock(Thing.class);
+        Mockito.when(thing.getUID()).thenReturn(new ThingUID("zigbee:generic:thing" + id));
+
+        ZigBeeThingHandler handler = Mockito.mock(ZigBeeThingHandler.class);
+        Mockito.when(handler.getThing()).thenReturn(thing);
+        return handler;
+    }
+
+    @Test
+    public void testStateMachine() {
+        ZigBeeIsAliveTracker tracker = new ZigBeeIsAliveTracker();
+        ZigBeeThingHandler handler = mockHandler(1);
+
+        assertNull(tracker.getState(handler));
+        tracker.addHandler(handler, INTERVAL);
+        assertEquals(LivenessState.ALIVE, tracker.getState(handler));
+
+        long now = System.nanoTime();
+        tracker.sweep(now);
+        assertEquals(LivenessState.ALIVE, tracker.getState(handler));
+
+        tracker.sweep(now + TimeUnit.SECONDS.toNanos(INTERVAL + 1));
+        assertEquals(LivenessState.LAST_CHANCE, tracker.getState(handler));
+        Mockito.verify(handler, Mockito.times(1)).aliveTimeoutLastChance();
+
+        // Only notified once
+        tracker.sweep(now + TimeUnit.SECONDS.toNanos(INTERVAL + 2));
+        Mockito.verify(handler, Mockito.times(1)).aliveTimeoutLastChance();
+
+        tracker.sweep(now + TimeUnit.SECONDS.toNanos(INTERVAL + 60));
+        assertEquals(LivenessState.OFFLINE, tracker.getState(handler));
+        Mockito.verify(handler, Mockito.times(1)).aliveTimeoutReached();
+
+        tracker.sweep(now + TimeUnit.SECONDS.toNanos(INTERVAL + 120));
+        Mockito.verify(handler, Mockito.times(1)).aliveTimeoutReached();
+
+        tracker.resetTimer(handler);
+        assertEquals(LivenessState.ALIVE, tracker.getState(handler));
+
+        tracker.removeHandler(handler);
+        assertNull(tracker.getState(handler));
+
+        tracker.deactivate();
+    }
+
+    @Test
+    public void testConcurrentResets() throws InterruptedException {
+        final int handlerCount = 500;
+        final int threadCount = 8;
+        final int resetsPerThread = 20000;
+
+        ZigBeeIsAliveTracker tracker = new ZigBeeIsAliveTracker();
+        List<ZigBeeThingHandler> handlers = new ArrayList<>();
+        for (int cnt = 0; cnt < handlerCount; cnt++) {
+            ZigBeeThingHandler handler = mockHandler(cnt);
+            handlers.add(handler);
+            tracker.addHandler(handler, INTERVAL);
+        }
+
+        // Expire all handlers so they are all in the LAST_CHANCE state
+        tracker.sweep(System.nanoTime() + TimeUnit.SECONDS.toNanos(INTERVAL + 1));
+        for (ZigBeeThingHandler handler : handlers) {
+            assertEquals(LivenessState.LAST_CHANCE, tracker.getState(handler));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch complete = new CountDownLatch(threadCount);
+        for (int thread = 0; thread < threadCount; thread++) {
+            final int offset = thread;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int cnt = 0; cnt < resetsPerThread; cnt++) {
+                        tracker.resetTimer(handlers.get((cnt + offset) % handlerCount));
+                    }
+                } catch (InterruptedException e) {
+                }
+                complete.countDown();
+            });
+        }
+
+        start.countDown();
+        assertTrue(complete.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // Every handler must have been reset to ALIVE by the resets alone - there is no sweep to restore the state
+        for (ZigBeeThingHandler handler : handlers) {
+            assertEquals(LivenessState.ALIVE, tracker.getState(handler));
+            Mockito.verify(handler, Mockito.times(1)).aliveTimeoutLastChance();
+            Mockito.verify(handler, Mockito.never()).aliveTimeoutReached();
+        }
+
+        tracker.deactivate();
+    }
+}
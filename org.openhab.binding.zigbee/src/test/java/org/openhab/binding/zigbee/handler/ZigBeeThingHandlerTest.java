@@ -25,8 +25,14 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -34,7 +40,9 @@ import org.mockito.Mockito;
 import org.openhab.binding.zigbee.ZigBeeBindingConstants;
 import org.openhab.binding.zigbee.converter.ZigBeeBaseChannelConverter;
 import org.openhab.binding.zigbee.converter.ZigBeeChannelConverterFactory;
+import org.openhab.binding.zigbee.internal.converter.config.ZclReportingConfig;
 import org.openhab.core.config.core.Configuration;
+import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
@@ -44,6 +52,7 @@ import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.ThingHandlerCallback;
 import org.openhab.core.thing.type.ThingType;
 import org.openhab.core.thing.type.ThingTypeBuilder;
+import org.openhab.core.types.Command;
 
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
@@ -118,6 +127,33 @@ public class ZigBeeThingHandlerTest {
         assertTrue(clusters.contains(654));
     }
 
+    @Test
+    public void testChannelPollingPeriod() throws IllegalAccessException, IllegalArgumentException,
+            InvocationTargetException, NoSuchMethodException, SecurityException {
+        ZigBeeThingHandler handler = new ZigBeeThingHandler(null, null, null);
+
+        Method privateMethod = ZigBeeThingHandler.class.getDeclaredMethod("getChannelPollingPeriod", Channel.class,
+                ZigBeeBaseChannelConverter.class);
+        privateMethod.setAccessible(true);
+
+        ZigBeeBaseChannelConverter converter = mock(ZigBeeBaseChannelConverter.class);
+        when(converter.getPollingPeriod()).thenReturn(60);
+
+        // No configuration - use the converter period
+        Channel channel = mockChannel(1, new ThingUID("zigbee:generic:thing"));
+        assertEquals(60, privateMethod.invoke(handler, channel, converter));
+
+        // Configuration takes precedence
+        channel.getConfiguration().put(ZclReportingConfig.CONFIG_POLLING, 7200);
+        assertEquals(7200, privateMethod.invoke(handler, channel, converter));
+
+        // Limited to the allowable range
+        channel.getConfiguration().put(ZclReportingConfig.CONFIG_POLLING, 1);
+        assertEquals(5, privateMethod.invoke(handler, channel, converter));
+        channel.getConfiguration().put(ZclReportingConfig.CONFIG_POLLING, 100000);
+        assertEquals(86400, privateMethod.invoke(handler, channel, converter));
+    }
+
     @Test
     public void testInitializeDeviceWithNoThingProperty()
             throws NoSuchMethodException, SecurityException, IllegalAccessException, IllegalArgumentException,
@@ -205,6 +241,158 @@ public class ZigBeeThingHandlerTest {
 
     }
 
+    @Test
+    public void testReinitialiseReusesConverters()
+            throws NoSuchMethodException, SecurityException, IllegalAccessException, IllegalArgumentException,
+            InvocationTargetException, NoSuchFieldException, InterruptedException, ExecutionException {
+        int endpointId = 1;
+        IeeeAddress ieeeAddress = new IeeeAddress("000D6F000C1534C3");
+        ThingType thingType = ThingTypeBuilder
+                .instance(ZigBeeBindingConstants.BINDING_ID, ZigBeeBindingConstants.ITEM_TYPE_SWITCH, "thingTypeLabel")
+                .build();
+        ThingUID thingUID = new ThingUID(thingType.getUID(), "thingUID");
+
+        ZigBeeNode zigBeeNode = mockZigBeeNode(endpointId, ieeeAddress);
+        ZigBeeCoordinatorHandler zigBeeCoordinatorHandler = mockZigBeeCoordinatorHandler(zigBeeNode);
+
+        Map<String, String> thingProperties = new HashMap<String, String>();
+        thingProperties.put(ZigBeeBindingConstants.THING_PROPERTY_DEVICE_INITIALIZED, Boolean.TRUE.toString());
+
+        Channel channel = mockChannel(endpointId, thingUID);
+        Thing thing = mockThing(thingType, thingProperties, channel);
+        ZigBeeBaseChannelConverter zigBeeChannelConverter = mockZigBeeBaseChannelConverterSuccessfull();
+
+        ZigBeeChannelConverterFactory zigBeeChannelConverterFactory = mockZigBeeChannelConverterFactory(
+                zigBeeChannelConverter);
+
+        ZigBeeThingHandler zigBeeThingHandler = new ZigBeeThingHandler(thing, zigBeeChannelConverterFactory,
+                mock(ZigBeeIsAliveTracker.class));
+        injectIntoPrivateField(zigBeeThingHandler, zigBeeCoordinatorHandler, "coordinatorHandler");
+        injectIntoPrivateField(zigBeeThingHandler, ieeeAddress, "nodeIeeeAddress");
+        ThingHandlerCallback callback = mock(ThingHandlerCallback.class);
+        zigBeeThingHandler.setCallback(callback);
+
+        Method doNodeInitialisationMethod = ZigBeeThingHandler.class.getDeclaredMethod("doNodeInitialisation",
+                (Class<Object>[]) null);
+        doNodeInitialisationMethod.setAccessible(true);
+        doNodeInitialisationMethod.invoke(zigBeeThingHandler, (Object[]) null);
+        verify(zigBeeChannelConverterFactory, times(1)).createConverter(any(Channel.class),
+                any(ZigBeeCoordinatorHandler.class), any(IeeeAddress.class), any(int.class));
+
+        // Reinitialising the same node keeps the existing converter
+        injectIntoPrivateField(zigBeeThingHandler, false, "nodeInitialised");
+        doNodeInitialisationMethod.invoke(zigBeeThingHandler, (Object[]) null);
+        verify(zigBeeChannelConverterFactory, times(1)).createConverter(any(Channel.class),
+                any(ZigBeeCoordinatorHandler.class), any(IeeeAddress.class), any(int.class));
+        verify(zigBeeChannelConverter, times(1)).initializeConverter(any(ZigBeeThingHandler.class));
+        verify(zigBeeChannelConverter, never()).disposeConverter();
+        verify(callback, never()).thingUpdated(any());
+
+        // A new node requires the converters, and their command mailboxes, to be recreated
+        Field mailboxesField = ZigBeeThingHandler.class.getDeclaredField("commandMailboxes");
+        mailboxesField.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        Map<ChannelUID, ZigBeeChannelCommandMailbox> mailboxes = (Map<ChannelUID, ZigBeeChannelCommandMailbox>) //
+                mailboxesField.get(zigBeeThingHandler);
+        mailboxes.put(channel.getUID(), new ZigBeeChannelCommandMailbox(channel.getUID(), command -> null));
+        ZigBeeNode newZigBeeNode = mockZigBeeNode(endpointId, ieeeAddress);
+        when(zigBeeCoordinatorHandler.getNode(any(IeeeAddress.class))).thenReturn(newZigBeeNode);
+        injectIntoPrivateField(zigBeeThingHandler, false, "nodeInitialised");
+        doNodeInitialisationMethod.invoke(zigBeeThingHandler, (Object[]) null);
+        verify(zigBeeChannelConverter, times(1)).disposeConverter();
+        assertTrue(mailboxes.isEmpty());
+        verify(zigBeeChannelConverterFactory, times(2)).createConverter(any(Channel.class),
+                any(ZigBeeCoordinatorHandler.class), any(IeeeAddress.class), any(int.class));
+    }
+
+    @Test
+    public void testBlockingConverterDoesNotHoldUpOtherCommands() throws Exception {
+        ThingUID thingUID = new ThingUID("zigbee:device:test:thing");
+        ChannelUID blockingUID = new ChannelUID(thingUID, "blocking");
+        ChannelUID otherUID = new ChannelUID(thingUID, "other");
+
+        // A converter that blocks waiting for the device
+        CountDownLatch blockingStarted = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        ZigBeeBaseChannelConverter blockingConverter = mock(ZigBeeBaseChannelConverter.class);
+        when(blockingConverter.handleCommandAsync(any(Command.class))).thenAnswer(invocation -> {
+            blockingStarted.countDown();
+            blocker.await(10, TimeUnit.SECONDS);
+            return CompletableFuture.completedFuture(true);
+        });
+
+        CountDownLatch otherComplete = new CountDownLatch(1);
+        ZigBeeBaseChannelConverter otherConverter = mock(ZigBeeBaseChannelConverter.class);
+        when(otherConverter.handleCommandAsync(any(Command.class))).thenAnswer(invocation -> {
+            otherComplete.countDown();
+            return CompletableFuture.completedFuture(true);
+        });
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        ZigBeeCoordinatorHandler zigBeeCoordinatorHandler = mock(ZigBeeCoordinatorHandler.class);
+        when(zigBeeCoordinatorHandler.getCommandExecutor()).thenReturn(executor);
+
+        ZigBeeThingHandler zigBeeThingHandler = new ZigBeeThingHandler(mock(Thing.class), null,
+                mock(ZigBeeIsAliveTracker.class));
+        injectIntoPrivateField(zigBeeThingHandler, zigBeeCoordinatorHandler, "coordinatorHandler");
+        injectIntoPrivateField(zigBeeThingHandler, new IeeeAddress("000D6F000C1534C3"), "nodeIeeeAddress");
+        Field channelsField = ZigBeeThingHandler.class.getDeclaredField("channels");
+        channelsField.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        Map<ChannelUID, ZigBeeBaseChannelConverter> channels = (Map<ChannelUID, ZigBeeBaseChannelConverter>) //
+                channelsField.get(zigBeeThingHandler);
+        channels.put(blockingUID, blockingConverter);
+        channels.put(otherUID, otherConverter);
+
+        zigBeeThingHandler.handleCommand(blockingUID, OnOffType.ON);
+        assertTrue(blockingStarted.await(5, TimeUnit.SECONDS));
+        zigBeeThingHandler.handleCommand(blockingUID, OnOffType.OFF);
+        zigBeeThingHandler.handleCommand(otherUID, OnOffType.ON);
+
+        // The other channel is processed while the blocking converter is waiting, but the blocked channel's second
+        // command waits for the first to complete
+        assertTrue(otherComplete.await(5, TimeUnit.SECONDS));
+        verify(blockingConverter, times(1)).handleCommandAsync(any(Command.class));
+
+        blocker.countDown();
+        verify(blockingConverter, timeout(5000).times(1)).handleCommandAsync(OnOffType.OFF);
+        executor.shutdown();
+    }
+
+    @Test
+    public void testUpdateBindingTableWithPlainFuture() throws Exception {
+        ScheduledExecutorService timerService = Executors.newSingleThreadScheduledExecutor();
+        ZigBeeCoordinatorHandler zigBeeCoordinatorHandler = mock(ZigBeeCoordinatorHandler.class);
+        when(zigBeeCoordinatorHandler.getTimerService()).thenReturn(timerService);
+
+        // The library returns a plain Future rather than a CompletableFuture
+        @SuppressWarnings("unchecked")
+        Future<ZigBeeStatus> updateBindingTableFuture = mock(Future.class);
+        when(updateBindingTableFuture.isDone()).thenReturn(false, false, true);
+        when(updateBindingTableFuture.get()).thenReturn(ZigBeeStatus.SUCCESS);
+        ZigBeeNode zigBeeNode = mock(ZigBeeNode.class);
+        when(zigBeeNode.updateBindingTable()).thenReturn(updateBindingTableFuture);
+
+        ZigBeeThingHandler zigBeeThingHandler = new ZigBeeThingHandler(mock(Thing.class), null,
+                mock(ZigBeeIsAliveTracker.class));
+        injectIntoPrivateField(zigBeeThingHandler, zigBeeCoordinatorHandler, "coordinatorHandler");
+        injectIntoPrivateField(zigBeeThingHandler, new IeeeAddress("000D6F000C1534C3"), "nodeIeeeAddress");
+
+        Method updateBindingTableMethod = ZigBeeThingHandler.class.getDeclaredMethod("updateBindingTable",
+                ZigBeeNode.class);
+        updateBindingTableMethod.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        CompletableFuture<ZigBeeStatus> result = (CompletableFuture<ZigBeeStatus>) //
+                updateBindingTableMethod.invoke(zigBeeThingHandler, zigBeeNode);
+
+        // The result is collected from the timer service without blocking the caller
+        assertFalse(result.isDone());
+        assertEquals(ZigBeeStatus.SUCCESS, result.get(5, TimeUnit.SECONDS));
+        verify(updateBindingTableFuture, never()).cancel(anyBoolean());
+
+        timerService.shutdown();
+    }
+
     private ZigBeeChannelConverterFactory mockZigBeeChannelConverterFactory(
             ZigBeeBaseChannelConverter zigBeeChannelConverter) {
         ZigBeeChannelConverterFactory zigBeeChannelConverterFactory = mock(ZigBeeChannelConverterFactory.class);
@@ -217,6 +405,7 @@ public class ZigBeeThingHandlerTest {
     private ZigBeeBaseChannelConverter mockZigBeeBaseChannelConverterSuccessfull() {
         ZigBeeBaseChannelConverter zigBeeChannelConverter = mock(ZigBeeBaseChannelConverter.class);
         when(zigBeeChannelConverter.initializeDevice()).thenReturn(true);
+        when(zigBeeChannelConverter.initializeDeviceIfRequired()).thenCallRealMethod();
         when(zigBeeChannelConverter.initializeConverter(any(ZigBeeThingHandler.class))).thenReturn(true);
 
         return zigBeeChannelConverter;
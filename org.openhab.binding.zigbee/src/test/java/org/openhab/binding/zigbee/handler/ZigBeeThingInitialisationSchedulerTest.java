@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zigbee.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor.LogicalType;
+import com.zsmartsystems.zigbee.zdo.field.PowerDescriptor;
+import com.zsmartsystems.zigbee.zdo.field.PowerDescriptor.PowerSourceType;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeThingInitialisationSchedulerTest {
+
+    private ZigBeeNode mockNode(LogicalType logicalType, PowerSourceType powerSource) {
+        PowerDescriptor powerDescriptor = Mockito.mock(PowerDescriptor.class);
+        Mockito.when(powerDescriptor.getCurrentPowerSource()).thenReturn(powerSource);
+
+        ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node.getLogicalType()).thenReturn(logicalType);
+        Mockito.when(node.getPowerDescriptor()).thenReturn(powerDescriptor);
+        return node;
+    }
+
+    @Test
+    public void testPriorityAndDuplicates() throws InterruptedException {
+        ZigBeeThingInitialisationScheduler scheduler = new ZigBeeThingInitialisationScheduler("test", 1);
+
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch complete = new CountDownLatch(4);
+
+        // Block the single thread so that subsequent jobs are queued
+        assertTrue(scheduler.schedule(new IeeeAddress("0000000000000000"), this, null, () -> {
+            started.countDown();
+            try {
+                blocker.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+            }
+            complete.countDown();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertTrue(scheduler.schedule(new IeeeAddress("1111111111111111"), this,
+                mockNode(LogicalType.END_DEVICE, PowerSourceType.DISPOSABLE_BATTERY), () -> {
+                    order.add("battery");
+                    complete.countDown();
+                }));
+        assertTrue(scheduler.schedule(new IeeeAddress("2222222222222222"), this,
+                mockNode(LogicalType.END_DEVICE, PowerSourceType.MAINS), () -> {
+                    order.add("mains");
+                    complete.countDown();
+                }));
+        assertTrue(scheduler.schedule(new IeeeAddress("3333333333333333"), this,
+                mockNode(LogicalType.ROUTER, PowerSourceType.MAINS), () -> {
+                    order.add("router");
+                    complete.countDown();
+                }));
+
+        // A thing that is already queued is not queued again
+        assertFalse(scheduler.schedule(new IeeeAddress("1111111111111111"), this, null, () -> order.add("duplicate")));
+        assertEquals(3, scheduler.getQueueLength());
+
+        blocker.countDown();
+        assertTrue(complete.await(5, TimeUnit.SECONDS));
+
+        assertEquals(3, order.size());
+        assertEquals("router", order.get(0));
+        assertEquals("mains", order.get(1));
+        assertEquals("battery", order.get(2));
+        assertEquals(0, scheduler.getQueueLength());
+
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void testRecreatedHandlerReplacesQueuedInitialisation() throws InterruptedException {
+        ZigBeeThingInitialisationScheduler scheduler = new ZigBeeThingInitialisationScheduler("test", 1);
+
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch complete = new CountDownLatch(3);
+
+        assertTrue(scheduler.schedule(new IeeeAddress("0000000000000000"), this, null, () -> {
+            started.countDown();
+            try {
+                blocker.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+            }
+            complete.countDown();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        Object disposedHandler = new Object();
+        Object recreatedHandler = new Object();
+        Object cancelledHandler = new Object();
+        IeeeAddress address = new IeeeAddress("1111111111111111");
+        assertTrue(scheduler.schedule(address, disposedHandler, null, () -> {
+            order.add("disposed");
+            complete.countDown();
+        }));
+
+        // The thing is disposed and recreated before the queued initialisation runs
+        assertTrue(scheduler.schedule(address, recreatedHandler, null, () -> {
+            order.add("recreated");
+            complete.countDown();
+        }));
+        assertFalse(scheduler.cancel(address, disposedHandler));
+        assertEquals(1, scheduler.getQueueLength());
+
+        // A handler that is disposed removes its queued initialisation
+        IeeeAddress cancelledAddress = new IeeeAddress("2222222222222222");
+        assertTrue(scheduler.schedule(cancelledAddress, cancelledHandler, null, () -> order.add("cancelled")));
+        assertTrue(scheduler.cancel(cancelledAddress, cancelledHandler));
+        assertEquals(1, scheduler.getQueueLength());
+
+        assertTrue(scheduler.schedule(new IeeeAddress("3333333333333333"), this, null, () -> {
+            order.add("other");
+            complete.countDown();
+        }));
+
+        blocker.countDown();
+        assertTrue(complete.await(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of("recreated", "other"), order);
+        assertEquals(0, scheduler.getQueueLength());
+
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void testShutdownCompletesRunningJobs() throws InterruptedException {
+        ZigBeeThingInitialisationScheduler scheduler = new ZigBeeThingInitialisationScheduler("test", 1);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch complete = new CountDownLatch(1);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+
+        assertTrue(scheduler.schedule(new IeeeAddress("0000000000000000"), this, null, () -> {
+            started.countDown();
+            try {
+                blocker.await(5, TimeUnit.SECONDS);
+                order.add("running");
+            } catch (InterruptedException e) {
+                order.add("interrupted");
+            }
+            complete.countDown();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(scheduler.schedule(new IeeeAddress("1111111111111111"), this, null, () -> order.add("queued")));
+
+        // The running initialisation is not interrupted, but the queued initialisation is discarded
+        scheduler.shutdown();
+        assertEquals(0, scheduler.getQueueLength());
+        blocker.countDown();
+        assertTrue(complete.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("running"), order);
+        assertFalse(scheduler.schedule(new IeeeAddress("2222222222222222"), this, null, () -> order.add("rejected")));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zigbee.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeePriorityJobQueueTest {
+
+    @Test
+    public void testPriorityOrderAndDuplicates() throws InterruptedException {
+        ZigBeePriorityJobQueue<String> queue = new ZigBeePriorityJobQueue<>("test", "test", 1);
+
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch complete = new CountDownLatch(4);
+
+        // Block the single thread so that subsequent jobs are queued
+        assertTrue(queue.schedule("blocker", this, 0, 0, () -> {
+            started.countDown();
+            try {
+                blocker.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+            }
+            complete.countDown();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertTrue(queue.schedule("low", this, 2, 1, () -> {
+            order.add("low");
+            complete.countDown();
+        }));
+        assertTrue(queue.schedule("second", this, 1, 2, () -> {
+            order.add("second");
+            complete.countDown();
+        }));
+        assertTrue(queue.schedule("first", this, 1, 1, () -> {
+            order.add("first");
+            complete.countDown();
+        }));
+
+        // A job with the same or lower priority is not queued again
+        assertFalse(queue.schedule("first", this, 1, 0, () -> order.add("duplicate")));
+        assertFalse(queue.schedule("second", this, 2, 0, () -> order.add("duplicate")));
+        assertEquals(3, queue.getQueueLength());
+
+        // A job with a higher priority replaces the queued job
+        assertTrue(queue.schedule("low", this, 0, 0, () -> {
+            order.add("high");
+            complete.countDown();
+        }));
+        assertEquals(3, queue.getQueueLength());
+
+        blocker.countDown();
+        assertTrue(complete.await(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of("high", "first", "second"), order);
+        assertEquals(0, queue.getQueueLength());
+
+        queue.shutdown();
+        assertFalse(queue.schedule("rejected", this, 0, 0, () -> order.add("rejected")));
+    }
+}
@@ -13,11 +13,18 @@
 package org.openhab.binding.zigbee.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingTypeUID;
 
@@ -67,5 +74,72 @@ public class ZigBeeThingTypeMatcherTest {
 	properties.put(Thing.PROPERTY_VENDOR, "Vendor4");
         properties.put(Thing.PROPERTY_MODEL_ID, "Model3");
         assertEquals(new ThingTypeUID("zigbee:type5"), matcher.matchThingType(properties));
+
+        // Match on model only, with any vendor
+        properties = new HashMap<>();
+        properties.put(Thing.PROPERTY_VENDOR, "AnyVendor");
+        properties.put(Thing.PROPERTY_MODEL_ID, "Model6");
+        assertEquals(new ThingTypeUID("zigbee:type6"), matcher.matchThingType(properties));
+        properties.remove(Thing.PROPERTY_VENDOR);
+        assertEquals(new ThingTypeUID("zigbee:type6"), matcher.matchThingType(properties));
+    }
+
+    @Test
+    public void testSupportedThingTypes() {
+        ZigBeeThingTypeMatcher matcher = new ZigBeeThingTypeMatcher();
+
+        Set<ThingTypeUID> thingTypes = matcher.getSupportedThingTypeUIDs();
+        assertEquals(6, thingTypes.size());
+        assertTrue(thingTypes.contains(new ThingTypeUID("zigbee:type1")));
+        assertTrue(thingTypes.contains(new ThingTypeUID("zigbee:type6")));
+        assertFalse(thingTypes.contains(new ThingTypeUID("zigbee:type0")));
+    }
+
+    @Test
+    public void testExternalDiscoveryProperties(@TempDir Path folder) throws IOException {
+        Path file = folder.resolve("devices.txt");
+        Files.write(file, "type7,vendor=Vendor7,modelId=Model7\ntype1,vendor=Vendor8,modelId=Model8\n".getBytes());
+
+        ZigBeeThingTypeMatcher matcher = new ZigBeeThingTypeMatcher(folder);
+        Map<String, Object> properties;
+
+        properties = new HashMap<>();
+        properties.put(Thing.PROPERTY_VENDOR, "Vendor7");
+        properties.put(Thing.PROPERTY_MODEL_ID, "Model7");
+        assertEquals(new ThingTypeUID("zigbee:type7"), matcher.matchThingType(properties));
+        assertEquals(7, matcher.getSupportedThingTypeUIDs().size());
+
+        // External definitions replace the bundled definition
+        properties = new HashMap<>();
+        properties.put(Thing.PROPERTY_VENDOR, "Vendor1");
+        properties.put(Thing.PROPERTY_MODEL_ID, "Model1");
+        assertEquals(null, matcher.matchThingType(properties));
+        properties.put(Thing.PROPERTY_VENDOR, "Vendor8");
+        properties.put(Thing.PROPERTY_MODEL_ID, "Model8");
+        assertEquals(new ThingTypeUID("zigbee:type1"), matcher.matchThingType(properties));
+
+        // Changing the file only updates the thing types in the file
+        Files.write(file, "type7,vendor=Vendor7,modelId=Model9\n".getBytes());
+        matcher.reloadFile(file);
+        properties = new HashMap<>();
+        properties.put(Thing.PROPERTY_VENDOR, "Vendor7");
+        properties.put(Thing.PROPERTY_MODEL_ID, "Model7");
+        assertEquals(null, matcher.matchThingType(properties));
+        properties.put(Thing.PROPERTY_MODEL_ID, "Model9");
+        assertEquals(new ThingTypeUID("zigbee:type7"), matcher.matchThingType(properties));
+        properties.put(Thing.PROPERTY_VENDOR, "Vendor1");
+        properties.put(Thing.PROPERTY_MODEL_ID, "Model1");
+        assertEquals(new ThingTypeUID("zigbee:type1"), matcher.matchThingType(properties));
+        properties.put(Thing.PROPERTY_VENDOR, "Vendor1");
+        properties.put(Thing.PROPERTY_MODEL_ID, "Model2");
+        assertEquals(new ThingTypeUID("zigbee:type3"), matcher.matchThingType(properties));
+
+        // Deleting the file reverts to the bundled definitions
+        Files.delete(file);
+        matcher.reloadFile(file);
+        properties.put(Thing.PROPERTY_VENDOR, "Vendor7");
+        properties.put(Thing.PROPERTY_MODEL_ID, "Model9");
+        assertEquals(null, matcher.matchThingType(properties));
+        assertEquals(6, matcher.getSupportedThingTypeUIDs().size());
     }
 }
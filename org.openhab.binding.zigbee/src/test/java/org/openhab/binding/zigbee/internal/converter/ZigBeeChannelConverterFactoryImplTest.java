@@ -13,11 +13,23 @@
 package org.openhab.binding.zigbee.internal.converter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,8 +42,10 @@ import org.openhab.core.thing.type.ChannelTypeUID;
 
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclColorControlCluster;
 import com.zsmartsystems.zigbee.zcl.clusters.ZclLevelControlCluster;
 import com.zsmartsystems.zigbee.zcl.clusters.ZclOnOffCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclTemperatureMeasurementCluster;
 
 /**
  * Testing the {@link ZigBeeChannelConverterFactoryImpl}.
@@ -82,11 +96,107 @@ public final class ZigBeeChannelConverterFactoryImplTest {
         assertEquals(0, channels.size());
     }
 
+    @Test
+    public void testClusterIndex() {
+        converters.put(ZigBeeBindingConstants.CHANNEL_COLOR_COLOR, ZigBeeConverterColorColor.class);
+        factory.addZigBeeChannelConverterProvider(provider);
+
+        // Only converters requiring the clusters listed by the endpoint are checked
+        ZigBeeEndpoint onOffEndpoint = mock(ZigBeeEndpoint.class);
+        ZclCluster cluster = mock(ZclCluster.class);
+        when(onOffEndpoint.getInputCluster(ZclOnOffCluster.CLUSTER_ID)).thenReturn(cluster);
+        when(onOffEndpoint.getInputCluster(ZclLevelControlCluster.CLUSTER_ID)).thenReturn(cluster);
+        when(onOffEndpoint.getInputClusterIds()).thenReturn(Collections.singletonList(ZclOnOffCluster.CLUSTER_ID));
+        when(onOffEndpoint.getOutputClusterIds()).thenReturn(Collections.emptyList());
+        when(onOffEndpoint.getEndpointId()).thenReturn(1);
+
+        Collection<Channel> channels = factory.getChannels(thingUID, onOffEndpoint);
+        assertEquals(1, channels.size());
+        assertEquals(ZigBeeBindingConstants.CHANNEL_SWITCH_ONOFF, channels.iterator().next().getChannelTypeUID());
+        verify(onOffEndpoint, never()).getInputCluster(ZclColorControlCluster.CLUSTER_ID);
+    }
+
+    @Test
+    public void testImplementedClusters() {
+        factory.addZigBeeChannelConverterProvider(provider);
+        assertEquals(Set.of(ZclOnOffCluster.CLUSTER_ID, ZclLevelControlCluster.CLUSTER_ID),
+                factory.getImplementedClientClusters());
+        assertEquals(Set.of(ZclOnOffCluster.CLUSTER_ID, ZclLevelControlCluster.CLUSTER_ID),
+                factory.getImplementedServerClusters());
+
+        factory.removeZigBeeChannelConverterProvider(provider);
+        assertTrue(factory.getImplementedClientClusters().isEmpty());
+        assertTrue(factory.getImplementedServerClusters().isEmpty());
+    }
+
+    @Test
+    public void testConcurrentProviderChanges() throws Exception {
+        factory.addZigBeeChannelConverterProvider(provider);
+
+        Map<ChannelTypeUID, Class<? extends ZigBeeBaseChannelConverter>> temperatureConverters = new HashMap<>();
+        temperatureConverters.put(ZigBeeBindingConstants.CHANNEL_TEMPERATURE_VALUE, ZigBeeConverterTemperature.class);
+        ZigBeeChannelConverterProvider temperatureProvider = new TestZigBeeChannelConverterProvider(
+                temperatureConverters);
+
+        List<ZigBeeEndpoint> endpoints = new ArrayList<>();
+        for (int cnt = 0; cnt < 50; cnt++) {
+            ZigBeeEndpoint temperatureEndpoint = createEndpoint();
+            when(temperatureEndpoint.getInputCluster(ZclTemperatureMeasurementCluster.CLUSTER_ID))
+                    .thenReturn(mock(ZclCluster.class));
+            when(temperatureEndpoint.getInputClusterIds()).thenReturn(Arrays.asList(ZclOnOffCluster.CLUSTER_ID,
+                    ZclLevelControlCluster.CLUSTER_ID, ZclTemperatureMeasurementCluster.CLUSTER_ID));
+            endpoints.add(temperatureEndpoint);
+        }
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Discover channels while the second provider is repeatedly added and removed.
+        // Every discovery must see either the first provider alone, or both providers.
+        for (int thread = 0; thread < threads; thread++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                while (running.get()) {
+                    for (ZigBeeEndpoint temperatureEndpoint : endpoints) {
+                        Collection<Channel> channels = factory.getChannels(thingUID, temperatureEndpoint);
+                        assertTrue(channels.size() == 1 || channels.size() == 2, "Channels " + channels.size());
+                    }
+                }
+                return null;
+            }));
+        }
+        futures.add(executor.submit(() -> {
+            start.await();
+            for (int cnt = 0; cnt < 200; cnt++) {
+                factory.addZigBeeChannelConverterProvider(temperatureProvider);
+                factory.removeZigBeeChannelConverterProvider(temperatureProvider);
+            }
+            running.set(false);
+            return null;
+        }));
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(1, factory.getChannels(thingUID, endpoints.get(0)).size());
+        factory.addZigBeeChannelConverterProvider(temperatureProvider);
+        assertEquals(2, factory.getChannels(thingUID, endpoints.get(0)).size());
+    }
+
     private ZigBeeEndpoint createEndpoint() {
         ZigBeeEndpoint endpoint = mock(ZigBeeEndpoint.class);
         ZclCluster cluster = mock(ZclCluster.class);
         when(endpoint.getInputCluster(ZclOnOffCluster.CLUSTER_ID)).thenReturn(cluster);
         when(endpoint.getInputCluster(ZclLevelControlCluster.CLUSTER_ID)).thenReturn(cluster);
+        when(endpoint.getInputClusterIds())
+                .thenReturn(Arrays.asList(ZclOnOffCluster.CLUSTER_ID, ZclLevelControlCluster.CLUSTER_ID));
+        when(endpoint.getOutputClusterIds()).thenReturn(Collections.emptyList());
         when(endpoint.getEndpointId()).thenReturn(1);
         return endpoint;
     }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zigbee.internal.converter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.openhab.binding.zigbee.handler.ZigBeeCoordinatorHandler;
+import org.openhab.binding.zigbee.handler.ZigBeeThingHandler;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.thing.Channel;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.builder.ChannelBuilder;
+
+import com.zsmartsystems.zigbee.CommandResult;
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeEndpoint;
+import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclScenesCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.scenes.RecallSceneCommand;
+
+/**
+ * Tests for the scene recall converter
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeConverterSceneRecallTest {
+
+    @Test
+    public void testHandleCommand() {
+        ZclScenesCluster cluster = Mockito.mock(ZclScenesCluster.class);
+        Mockito.when(cluster.sendCommand(ArgumentMatchers.any()))
+                .thenReturn(CompletableFuture.completedFuture(Mockito.mock(CommandResult.class)));
+        ZigBeeEndpoint endpoint = Mockito.mock(ZigBeeEndpoint.class);
+        Mockito.when(endpoint.getInputCluster(ZclScenesCluster.CLUSTER_ID)).thenReturn(cluster);
+        ZigBeeCoordinatorHandler coordinatorHandler = Mockito.mock(ZigBeeCoordinatorHandler.class);
+        Mockito.when(coordinatorHandler.getEndpoint(ArgumentMatchers.any(IeeeAddress.class), ArgumentMatchers.anyInt()))
+                .thenReturn(endpoint);
+
+        ZigBeeConverterSceneRecall converter = new ZigBeeConverterSceneRecall();
+        Channel channel = ChannelBuilder.create(new ChannelUID("a:b:c:d")).build();
+        converter.initialize(channel, coordinatorHandler, new IeeeAddress("1234567890ABCDEF"), 1);
+        assertTrue(converter.initializeConverter(Mockito.mock(ZigBeeThingHandler.class)));
+
+        // The scene is recalled from the global scene group
+        ArgumentCaptor<ZclCommand> commandCapture = ArgumentCaptor.forClass(ZclCommand.class);
+        converter.handleCommand(new DecimalType(5));
+        Mockito.verify(cluster, Mockito.times(1)).sendCommand(commandCapture.capture());
+        RecallSceneCommand command = (RecallSceneCommand) commandCapture.getValue();
+        assertEquals(Integer.valueOf(0), command.getGroupId());
+        assertEquals(Integer.valueOf(5), command.getSceneId());
+
+        // Out of range scenes are ignored
+        assertFalse(converter.handleCommandAsync(new DecimalType(256)).join());
+        Mockito.verify(cluster, Mockito.times(1)).sendCommand(ArgumentMatchers.any());
+    }
+
+    @Test
+    public void testChannelNotCreatedFromEndpoint() {
+        ZigBeeEndpoint endpoint = Mockito.mock(ZigBeeEndpoint.class);
+        Mockito.when(endpoint.getInputCluster(ZclScenesCluster.CLUSTER_ID))
+                .thenReturn(Mockito.mock(ZclScenesCluster.class));
+
+        // Scene channels are only used in static thing types
+        assertNull(new ZigBeeConverterSceneRecall().getChannel(new ThingUID("a:b:c"), endpoint));
+        assertNull(new ZigBeeConverterSceneStore().getChannel(new ThingUID("a:b:c"), endpoint));
+    }
+}
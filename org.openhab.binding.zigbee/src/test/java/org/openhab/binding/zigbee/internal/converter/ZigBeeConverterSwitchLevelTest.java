@@ -159,6 +159,7 @@ public class ZigBeeConverterSwitchLevelTest {
         Mockito.when(commandResult.isTimeout()).thenReturn(false);
         Future<CommandResult> resultFuture = Mockito.mock(Future.class);
         Mockito.when(resultFuture.get()).thenReturn(commandResult);
+        Mockito.when(resultFuture.isDone()).thenReturn(true);
 
         Mockito.when(levelControlCluster.sendCommand(ArgumentMatchers.any(MoveToLevelWithOnOffCommand.class)))
                 .thenReturn(resultFuture);